@@ -29,6 +29,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-websocket")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // WebSocket STOMP
     implementation("org.springframework.boot:spring-boot-starter-reactor-netty")
@@ -44,6 +45,10 @@ dependencies {
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
 
+    // Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.roaringbitmap:RoaringBitmap:1.0.1")
+
     // Database
     runtimeOnly("org.postgresql:postgresql")
 
@@ -63,9 +68,24 @@ dependencies {
     // Test
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
+    // Docker 없이 실행되는 테스트용 PostgreSQL / Redis
+    testImplementation("io.zonky.test:embedded-postgres:2.0.6")
+    testImplementation("com.github.codemonstur:embedded-redis:1.4.3")
+    // 마이크로벤치마크 (src/test/java/**/*Benchmark.java, ./gradlew jmh 로 실행)
+    testImplementation("org.openjdk.jmh:jmh-core:1.37")
+    testAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 예: ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs JMH benchmarks from the test source set"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(project.findProperty("jmh.includes")?.toString() ?: ".*Benchmark.*")
+}
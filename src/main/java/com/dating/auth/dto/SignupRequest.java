@@ -1,6 +1,8 @@
 package com.dating.auth.dto;
 
 import com.dating.profile.domain.Profile;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -48,6 +50,14 @@ public class SignupRequest {
 
     private String location;  // 위치
 
+    @DecimalMin(value = "-85.05112878", message = "Latitude must be between -85.05112878 and 85.05112878")
+    @DecimalMax(value = "85.05112878", message = "Latitude must be between -85.05112878 and 85.05112878")
+    private Double latitude;  // 위도
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;  // 경도
+
     // 매칭 선호도 (선택 사항, 기본값: 18-99세, 50km)
     private Integer minAgePreference;  // 선호 최소 나이
 
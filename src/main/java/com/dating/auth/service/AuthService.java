@@ -7,6 +7,7 @@ import com.dating.common.exception.BusinessException;
 import com.dating.common.exception.ErrorCode;
 import com.dating.common.security.JwtTokenProvider;
 import com.dating.profile.domain.Profile;
+import com.dating.profile.repository.ProfileGeoRepository;
 import com.dating.profile.repository.ProfileRepository;
 import com.dating.user.domain.User;
 import com.dating.user.repository.UserRepository;
@@ -27,6 +28,7 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
+    private final ProfileGeoRepository profileGeoRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, Object> redisTemplate;
@@ -66,8 +68,10 @@ public class AuthService {
                 .bio(request.getBio())
                 .location(request.getLocation())
                 .build();
+        profile.updateCoordinates(request.getLatitude(), request.getLongitude());
 
         Profile savedProfile = profileRepository.save(profile);
+        profileGeoRepository.save(savedProfile);
         log.info(">>> Profile saved to DB - id: {}, nickname: {}", savedProfile.getId(), savedProfile.getNickname());
 
         // 매칭 선호도 설정 (입력된 경우)
@@ -84,7 +88,7 @@ public class AuthService {
                     request.getMinAgePreference(), request.getMaxAgePreference(), request.getMaxDistance());
         }
 
-        return generateTokens(savedUser.getId());
+        return generateTokens(savedUser.getId(), savedProfile.getId());
     }
 
     public TokenResponse login(LoginRequest request) {
@@ -109,7 +113,7 @@ public class AuthService {
         }
 
         log.info(">>> Login validation passed - generating tokens for user: {}", user.getId());
-        return generateTokens(user.getId());
+        return generateTokens(user.getId(), profileRepository.findIdByUserId(user.getId()).orElse(null));
     }
 
     public TokenResponse refresh(String refreshToken) {
@@ -125,7 +129,7 @@ public class AuthService {
             throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
 
-        return generateTokens(userId);
+        return generateTokens(userId, profileRepository.findIdByUserId(userId).orElse(null));
     }
 
     @Transactional
@@ -133,8 +137,8 @@ public class AuthService {
         redisTemplate.delete(REFRESH_TOKEN_PREFIX + userId);
     }
 
-    private TokenResponse generateTokens(Long userId) {
-        String accessToken = jwtTokenProvider.createAccessToken(userId);
+    private TokenResponse generateTokens(Long userId, Long profileId) {
+        String accessToken = jwtTokenProvider.createAccessToken(userId, profileId);
         String refreshToken = jwtTokenProvider.createRefreshToken(userId);
 
         redisTemplate.opsForValue().set(
@@ -0,0 +1,5 @@
+package com.dating.chat.cache;
+
+// 사용자 id 로 찾은 프로필 id 와 채팅 가능 여부 (정지 / 비활성 사용자는 false)
+public record ChatMember(Long profileId, boolean active) {
+}
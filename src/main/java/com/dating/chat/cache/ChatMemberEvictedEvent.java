@@ -0,0 +1,5 @@
+package com.dating.chat.cache;
+
+// 사용자 상태 변경으로 채팅 멤버십 캐시가 비워졌을 때 각 노드에서 발행 (다른 노드에서 시작된 변경 포함)
+public record ChatMemberEvictedEvent(Long userId) {
+}
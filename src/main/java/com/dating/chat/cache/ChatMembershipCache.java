@@ -0,0 +1,181 @@
+package com.dating.chat.cache;
+
+import com.dating.chat.repository.ChatRoomRepository;
+import com.dating.common.datasource.PrimaryReader;
+import com.dating.profile.repository.ProfileRepository;
+import com.dating.user.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 채팅 권한 확인용 캐시 (로컬 LRU + Redis 2차 캐시)
+// 사용자 id -> 프로필 id / 활성 여부, 채팅방 id -> 참여자 두 명의 프로필 id
+@Slf4j
+@Component
+public class ChatMembershipCache implements MessageListener {
+
+    private static final String MEMBER_KEY_PREFIX = "chat:member:";
+    private static final String PARTICIPANTS_KEY_PREFIX = "chat:participants:";
+    private static final String EVICT_CHANNEL = "chat:membership:evict";
+    private static final String USER_PREFIX = "user:";
+
+    private final ProfileRepository profileRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final PrimaryReader primaryReader;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Duration redisTtl;
+    private final Cache<Long, ChatMember> members;
+    private final Cache<Long, ChatRoomParticipants> participants;
+
+    public ChatMembershipCache(
+            ProfileRepository profileRepository,
+            ChatRoomRepository chatRoomRepository,
+            PrimaryReader primaryReader,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${chat.membership-cache.max-size:100000}") long maxSize,
+            @Value("${chat.membership-cache.expire-after-write:10m}") Duration expireAfterWrite,
+            @Value("${chat.membership-cache.redis-ttl:10m}") Duration redisTtl
+    ) {
+        this.profileRepository = profileRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.primaryReader = primaryReader;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.redisTtl = redisTtl;
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.participants = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public Optional<ChatMember> getMember(Long userId) {
+        return Optional.ofNullable(members.get(userId, id -> load(
+                MEMBER_KEY_PREFIX + id,
+                ChatMembershipCache::parseMember,
+                member -> member.profileId() + ":" + member.active(),
+                () -> profileRepository.findByUserId(id)
+                        .map(profile -> new ChatMember(profile.getId(),
+                                profile.getUser().getStatus() == User.UserStatus.ACTIVE)))));
+    }
+
+    // 채팅방은 매칭 한 건에 묶여 참여자가 바뀌지 않으므로 따로 비우지 않음
+    public Optional<ChatRoomParticipants> getParticipants(Long chatRoomId) {
+        return Optional.ofNullable(participants.get(chatRoomId, id -> load(
+                PARTICIPANTS_KEY_PREFIX + id,
+                ChatMembershipCache::parseParticipants,
+                room -> room.fromProfileId() + ":" + room.toProfileId(),
+                () -> chatRoomRepository.findById(id)
+                        .map(chatRoom -> new ChatRoomParticipants(
+                                chatRoom.getMatch().getFromProfile().getId(),
+                                chatRoom.getMatch().getToProfile().getId())))));
+    }
+
+    // 사용자 상태 변경 (정지 등) 시 호출, 커밋 이후 모든 노드에서 비우고 열려 있는 STOMP 세션도 회수
+    public void evictMember(Long userId) {
+        evictAfterCommit(() -> {
+            invalidateMember(userId);
+            evictShared(MEMBER_KEY_PREFIX + userId, USER_PREFIX + userId);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String target = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (target.startsWith(USER_PREFIX)) {
+            invalidateMember(Long.valueOf(target.substring(USER_PREFIX.length())));
+        }
+    }
+
+    // 변경을 시작한 노드는 직접, 다른 노드는 pub/sub 으로 호출 (시작한 노드에서 두 번 불려도 무해)
+    private void invalidateMember(Long userId) {
+        members.invalidate(userId);
+        applicationEventPublisher.publishEvent(new ChatMemberEvictedEvent(userId));
+    }
+
+    private <T> T load(String key, Function<String, T> parser, Function<T, String> formatter,
+                       Supplier<Optional<T>> loader) {
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return parser.apply(cached);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read chat membership from redis - key: {}", key, e);
+        }
+
+        // 없는 사용자 / 채팅방은 캐싱하지 않음 (null)
+        T value = primaryReader.read(loader).orElse(null);
+        if (value != null) {
+            try {
+                stringRedisTemplate.opsForValue().set(key, formatter.apply(value), redisTtl);
+            } catch (Exception e) {
+                log.warn("Failed to write chat membership to redis - key: {}", key, e);
+            }
+        }
+        return value;
+    }
+
+    private void evictAfterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    // Redis 2차 캐시를 지우고 다른 노드의 로컬 캐시도 비우도록 전파
+    private void evictShared(String key, String target) {
+        try {
+            stringRedisTemplate.delete(key);
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, target);
+        } catch (Exception e) {
+            log.warn("Failed to evict chat membership - key: {}", key, e);
+        }
+    }
+
+    private static ChatMember parseMember(String value) {
+        String[] parts = value.split(":");
+        return new ChatMember(Long.valueOf(parts[0]), Boolean.parseBoolean(parts[1]));
+    }
+
+    private static ChatRoomParticipants parseParticipants(String value) {
+        String[] parts = value.split(":");
+        return new ChatRoomParticipants(Long.valueOf(parts[0]), Long.valueOf(parts[1]));
+    }
+}
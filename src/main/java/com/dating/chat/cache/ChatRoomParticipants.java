@@ -0,0 +1,8 @@
+package com.dating.chat.cache;
+
+public record ChatRoomParticipants(Long fromProfileId, Long toProfileId) {
+
+    public boolean contains(Long profileId) {
+        return fromProfileId.equals(profileId) || toProfileId.equals(profileId);
+    }
+}
@@ -0,0 +1,176 @@
+package com.dating.chat.cache;
+
+import com.dating.chat.repository.ChatReadWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 채팅방별 읽음 워터마크 (Redis hash chat:read:{roomId}, field = 프로필 id, value = 마지막으로 읽은 메시지 id)
+// 읽음 처리는 hash 만 갱신하고 바뀐 방을 dirty set 에 모아 두었다가 주기적으로 chat_read_watermarks 에 upsert
+@Slf4j
+@Component
+public class ReadWatermarkStore {
+
+    private static final String KEY_PREFIX = "chat:read:";
+    private static final String DIRTY_KEY = "chat:read:dirty";
+    // DB 에서 적재했음을 표시하는 field. 워터마크가 하나도 없는 방도 매번 DB 를 조회하지 않도록 함
+    private static final String LOADED_MARKER = "loaded";
+
+    // Snowflake id 는 Lua number(double) 로 정확히 비교할 수 없어 자릿수 -> 문자열 순으로 비교
+    // 더 큰 값일 때만 갱신하므로 요청 / 적재 순서와 관계없이 결과가 같음
+    private static final RedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if current and (#current > #ARGV[2] or (#current == #ARGV[2] and current >= ARGV[2])) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            if ARGV[4] ~= '' then
+                redis.call('SADD', KEYS[2], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    private final ChatReadWatermarkRepository chatReadWatermarkRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration redisTtl;
+    private final int flushBatchSize;
+
+    public ReadWatermarkStore(
+            ChatReadWatermarkRepository chatReadWatermarkRepository,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${chat.read-watermark.redis-ttl:30d}") Duration redisTtl,
+            @Value("${chat.read-watermark.flush-batch-size:500}") int flushBatchSize
+    ) {
+        this.chatReadWatermarkRepository = chatReadWatermarkRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisTtl = redisTtl;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    // 워터마크가 앞으로 이동했으면 true
+    public boolean advance(Long chatRoomId, Long profileId, Long lastReadMessageId) {
+        ensureLoaded(chatRoomId);
+        return apply(chatRoomId, profileId, lastReadMessageId, true);
+    }
+
+    // 프로필 id -> 마지막으로 읽은 메시지 id
+    public Map<Long, Long> getWatermarks(Long chatRoomId) {
+        ensureLoaded(chatRoomId);
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key(chatRoomId));
+
+        Map<Long, Long> watermarks = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (!LOADED_MARKER.equals(field)) {
+                watermarks.put(Long.valueOf((String) field), Long.valueOf((String) value));
+            }
+        });
+        return watermarks;
+    }
+
+    // 여러 방에서 한 프로필의 워터마크, Redis 에 없는 방은 결과에서 빠짐 (DB 값을 그대로 사용)
+    public Map<Long, Long> getWatermarksOf(Long profileId, List<Long> chatRoomIds) {
+        if (chatRoomIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String field = String.valueOf(profileId);
+        List<Object> values = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            chatRoomIds.forEach(chatRoomId -> redis.hGet(key(chatRoomId), field));
+            return null;
+        });
+
+        Map<Long, Long> watermarks = new HashMap<>();
+        for (int i = 0; i < chatRoomIds.size(); i++) {
+            if (values.get(i) != null) {
+                watermarks.put(chatRoomIds.get(i), Long.valueOf((String) values.get(i)));
+            }
+        }
+        return watermarks;
+    }
+
+    // SPOP 이후 upsert 전에 노드가 죽으면 해당 방은 다음 읽음 처리 때 다시 기록됨 (Redis 값은 TTL 동안 유지)
+    @Scheduled(fixedDelayString = "${chat.read-watermark.flush-interval:1000}")
+    public void flush() {
+        try {
+            List<String> chatRoomIds;
+            do {
+                chatRoomIds = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, flushBatchSize);
+                if (chatRoomIds == null || chatRoomIds.isEmpty()) {
+                    return;
+                }
+                flush(chatRoomIds);
+            } while (chatRoomIds.size() == flushBatchSize);
+        } catch (Exception e) {
+            log.error("Failed to flush chat read watermarks", e);
+        }
+    }
+
+    private void flush(List<String> chatRoomIds) {
+        try {
+            List<Object> entries = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                chatRoomIds.forEach(chatRoomId -> redis.hGetAll(KEY_PREFIX + chatRoomId));
+                return null;
+            });
+
+            List<ChatReadWatermarkRepository.Watermark> watermarks = new ArrayList<>();
+            for (int i = 0; i < chatRoomIds.size(); i++) {
+                Long chatRoomId = Long.valueOf(chatRoomIds.get(i));
+                ((Map<?, ?>) entries.get(i)).forEach((field, value) -> {
+                    if (!LOADED_MARKER.equals(field)) {
+                        watermarks.add(new ChatReadWatermarkRepository.Watermark(
+                                chatRoomId, Long.valueOf((String) field), Long.valueOf((String) value)));
+                    }
+                });
+            }
+            if (!watermarks.isEmpty()) {
+                chatReadWatermarkRepository.upsertAll(watermarks);
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 기록하도록 되돌림
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, chatRoomIds.toArray(String[]::new));
+            throw e;
+        }
+    }
+
+    // 만료된 방은 DB 값으로 다시 채움, 동시에 들어온 읽음 처리와 겹쳐도 큰 값만 남음
+    private void ensureLoaded(Long chatRoomId) {
+        String key = key(chatRoomId);
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForHash().hasKey(key, LOADED_MARKER))) {
+            return;
+        }
+
+        chatReadWatermarkRepository.findByChatRoomId(chatRoomId)
+                .forEach((profileId, lastReadMessageId) -> apply(chatRoomId, profileId, lastReadMessageId, false));
+        stringRedisTemplate.opsForHash().put(key, LOADED_MARKER, "1");
+        stringRedisTemplate.expire(key, redisTtl);
+    }
+
+    private boolean apply(Long chatRoomId, Long profileId, Long lastReadMessageId, boolean markDirty) {
+        Long advanced = stringRedisTemplate.execute(ADVANCE_SCRIPT,
+                List.of(key(chatRoomId), DIRTY_KEY),
+                String.valueOf(profileId),
+                String.valueOf(lastReadMessageId),
+                String.valueOf(redisTtl.toMillis()),
+                markDirty ? String.valueOf(chatRoomId) : "");
+        return Long.valueOf(1).equals(advanced);
+    }
+
+    private static String key(Long chatRoomId) {
+        return KEY_PREFIX + chatRoomId;
+    }
+}
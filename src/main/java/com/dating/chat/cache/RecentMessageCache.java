@@ -0,0 +1,305 @@
+package com.dating.chat.cache;
+
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.repository.ChatMessageRepository;
+import com.dating.common.datasource.PrimaryReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 채팅방별 최근 메시지 ring buffer (로컬 LRU + Redis sorted set, score = 메시지 id)
+// id 가 시간순이라 적재와 추가가 어떤 순서로 겹쳐도 ZADD 로 합쳐지고, 다른 노드의 추가는 방별 pub/sub 채널로 로컬에 반영
+// 노드는 로컬에 적재한 방의 채널만 구독하며, 구독 직전 / 연결 끊김 중에 놓친 메시지는 expire-after-write 후 재적재로 맞춰짐
+@Slf4j
+@Component
+public class RecentMessageCache implements MessageListener {
+
+    private static final String RECENT_KEY_PREFIX = "chat:recent:";
+    private static final String CHANNEL_PREFIX = "chat:recent:events:";
+    private static final String EVICT_MESSAGE = "evict";
+    // DB 에서 적재했음을 표시하는 멤버. 가장 낮은 score 라서 capacity 를 넘으면 가장 먼저 잘려나감
+    private static final String LOADED_MARKER = "loaded";
+    private static final double LOADED_MARKER_SCORE = -1;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final PrimaryReader primaryReader;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Duration redisTtl;
+    private final Cache<Long, RecentMessages> localCache;
+
+    public RecentMessageCache(
+            ChatMessageRepository chatMessageRepository,
+            PrimaryReader primaryReader,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${chat.recent-cache.capacity:50}") int capacity,
+            @Value("${chat.recent-cache.max-rooms:10000}") long maxRooms,
+            @Value("${chat.recent-cache.expire-after-access:10m}") Duration expireAfterAccess,
+            @Value("${chat.recent-cache.expire-after-write:1m}") Duration expireAfterWrite,
+            @Value("${chat.recent-cache.redis-ttl:1h}") Duration redisTtl
+    ) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.primaryReader = primaryReader;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(expireAfterAccess)
+                .expireAfterWrite(expireAfterWrite)
+                // 제거와 같은 원자적 연산 안에서 호출되므로 같은 방을 다시 적재하며 구독한 것과 순서가 뒤바뀌지 않음
+                .evictionListener((Long chatRoomId, RecentMessages recent, RemovalCause cause) -> unsubscribe(chatRoomId))
+                .build();
+    }
+
+    // 최신순 count 개. 캐시로 답할 수 없으면 (capacity 보다 많이 요청하는 등) empty
+    public Optional<List<ChatMessageResponse>> getLatest(Long chatRoomId, int count) {
+        RecentMessages recent;
+        try {
+            recent = localCache.get(chatRoomId, this::load);
+        } catch (Exception e) {
+            log.warn("Failed to load recent messages - chatRoomId: {}", chatRoomId, e);
+            return Optional.empty();
+        }
+        return recent.latest(count, capacity);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 메시지가 캐시에 남지 않도록 함
+    public void append(ChatMessageResponse message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    appendNow(message);
+                }
+            });
+        } else {
+            appendNow(message);
+        }
+    }
+
+    // 읽음 처리처럼 이미 캐시된 메시지가 바뀌는 경우, 커밋 이후 모든 노드에서 해당 방을 비움
+    public void evict(Long chatRoomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(chatRoomId);
+                }
+            });
+        } else {
+            evictNow(chatRoomId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        if (EVICT_MESSAGE.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            invalidateLocal(Long.valueOf(channel.substring(CHANNEL_PREFIX.length())));
+            return;
+        }
+
+        try {
+            ChatMessageResponse appended = objectMapper.readValue(message.getBody(), ChatMessageResponse.class);
+            applyLocal(appended);
+        } catch (Exception e) {
+            log.warn("Failed to apply recent message from channel", e);
+        }
+    }
+
+    private void appendNow(ChatMessageResponse message) {
+        try {
+            String payload = serialize(message);
+            String key = RECENT_KEY_PREFIX + message.getChatRoomId();
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.zAdd(key, message.getId(), payload);
+                redis.zRemRange(key, 0, -(capacity + 1));
+                redis.expire(key, redisTtl.toSeconds());
+                redis.publish(CHANNEL_PREFIX + message.getChatRoomId(), payload);
+                return null;
+            });
+        } catch (Exception e) {
+            // Redis 에 반영하지 못하면 오래된 목록이 남지 않도록 로컬/Redis 모두 비움
+            log.warn("Failed to append recent message - chatRoomId: {}", message.getChatRoomId(), e);
+            evictNow(message.getChatRoomId());
+        }
+        applyLocal(message);
+    }
+
+    private void evictNow(Long chatRoomId) {
+        invalidateLocal(chatRoomId);
+        try {
+            stringRedisTemplate.delete(RECENT_KEY_PREFIX + chatRoomId);
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + chatRoomId, EVICT_MESSAGE);
+        } catch (Exception e) {
+            log.warn("Failed to evict recent messages - chatRoomId: {}", chatRoomId, e);
+        }
+    }
+
+    // 같은 방을 적재하는 중이면 적재가 끝난 뒤에 반영됨 (compute 는 같은 key 에 대해 직렬화)
+    private void applyLocal(ChatMessageResponse message) {
+        localCache.asMap().computeIfPresent(message.getChatRoomId(), (chatRoomId, recent) -> {
+            recent.add(message, capacity);
+            return recent;
+        });
+    }
+
+    // 명시적 제거는 evictionListener 가 호출되지 않으므로 같은 원자적 연산 안에서 직접 구독 해제
+    private void invalidateLocal(Long chatRoomId) {
+        localCache.asMap().computeIfPresent(chatRoomId, (key, recent) -> {
+            unsubscribe(key);
+            return null;
+        });
+    }
+
+    // Redis 를 읽기 전에 구독해 두어, 읽은 뒤에 추가된 메시지는 채널로 받음
+    private RecentMessages load(Long chatRoomId) {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + chatRoomId));
+        try {
+            return loadFromRedis(chatRoomId);
+        } catch (RuntimeException e) {
+            unsubscribe(chatRoomId);
+            throw e;
+        }
+    }
+
+    private void unsubscribe(Long chatRoomId) {
+        try {
+            listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + chatRoomId));
+        } catch (Exception e) {
+            log.warn("Failed to unsubscribe recent messages - chatRoomId: {}", chatRoomId, e);
+        }
+    }
+
+    private RecentMessages loadFromRedis(Long chatRoomId) {
+        String key = RECENT_KEY_PREFIX + chatRoomId;
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, -1);
+        if (!isComplete(members)) {
+            List<ChatMessageResponse> latest = primaryReader.read(
+                    () -> chatMessageRepository.findLatestResponses(chatRoomId, Limit.of(capacity)));
+            store(key, latest);
+            // 적재하는 사이에 추가된 메시지까지 합쳐진 결과를 다시 읽음
+            members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, -1);
+        }
+        return RecentMessages.of(toResponses(members));
+    }
+
+    private void store(String key, List<ChatMessageResponse> messages) {
+        List<String> payloads = new ArrayList<>(messages.size());
+        for (ChatMessageResponse message : messages) {
+            payloads.add(serialize(message));
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.zAdd(key, LOADED_MARKER_SCORE, LOADED_MARKER);
+            for (int i = 0; i < messages.size(); i++) {
+                redis.zAdd(key, messages.get(i).getId(), payloads.get(i));
+            }
+            redis.zRemRange(key, 0, -(capacity + 1));
+            redis.expire(key, redisTtl.toSeconds());
+            return null;
+        });
+    }
+
+    // 적재 표시가 남아 있거나, 추가만으로 capacity 개가 찼으면 최신 capacity 개를 모두 가진 상태
+    private boolean isComplete(Set<String> members) {
+        if (members == null || members.isEmpty()) {
+            return false;
+        }
+        return members.contains(LOADED_MARKER) || members.size() >= capacity;
+    }
+
+    private List<ChatMessageResponse> toResponses(Collection<String> members) {
+        List<ChatMessageResponse> responses = new ArrayList<>();
+        if (members == null) {
+            return responses;
+        }
+        for (String member : members) {
+            if (LOADED_MARKER.equals(member)) {
+                continue;
+            }
+            try {
+                responses.add(objectMapper.readValue(member, ChatMessageResponse.class));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to deserialize recent message", e);
+            }
+        }
+        return responses;
+    }
+
+    private String serialize(ChatMessageResponse message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize chat message " + message.getId(), e);
+        }
+    }
+
+    private static final class RecentMessages {
+
+        // 메시지 id 내림차순 (최신순)
+        private final ConcurrentSkipListMap<Long, ChatMessageResponse> messages =
+                new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+        static RecentMessages of(List<ChatMessageResponse> responses) {
+            RecentMessages recent = new RecentMessages();
+            responses.forEach(response -> recent.messages.put(response.getId(), response));
+            return recent;
+        }
+
+        void add(ChatMessageResponse message, int capacity) {
+            messages.put(message.getId(), message);
+            while (messages.size() > capacity) {
+                messages.pollLastEntry();
+            }
+        }
+
+        // capacity 보다 적게 들고 있으면 방의 전체 메시지이므로 count 보다 적어도 그대로 응답 가능
+        Optional<List<ChatMessageResponse>> latest(int count, int capacity) {
+            List<ChatMessageResponse> snapshot = new ArrayList<>(count);
+            for (ChatMessageResponse message : messages.values()) {
+                if (snapshot.size() == count) {
+                    break;
+                }
+                snapshot.add(message);
+            }
+            if (snapshot.size() < count && messages.size() >= capacity) {
+                return Optional.empty();
+            }
+            return Optional.of(snapshot);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.dating.chat.controller;
 
+import com.dating.chat.dto.ChatInboxResponse;
 import com.dating.chat.dto.ChatMessageRequest;
 import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.dto.ChatMessageSliceResponse;
+import com.dating.chat.dto.ChatReadReceiptResponse;
 import com.dating.chat.dto.ChatRoomResponse;
 import com.dating.chat.service.ChatService;
 import com.dating.common.dto.ApiResponse;
@@ -32,16 +35,27 @@ public class ChatController {
     @GetMapping("/rooms")
     @Operation(summary = "내 채팅방 목록", description = "내가 참여한 채팅방 목록을 조회합니다.")
     public ApiResponse<List<ChatRoomResponse>> getMyChatRooms() {
-        Long userId = SecurityUtil.getCurrentUserId();
-        List<ChatRoomResponse> rooms = chatService.getMyChatRooms(userId);
+        Long profileId = SecurityUtil.getCurrentProfileId();
+        List<ChatRoomResponse> rooms = chatService.getMyChatRooms(profileId);
         return ApiResponse.success(rooms);
     }
 
+    @GetMapping("/inbox")
+    @Operation(summary = "채팅 인박스",
+            description = "채팅방 목록을 마지막 메시지 미리보기, 상대 프로필, 안 읽은 메시지 수와 함께 최근 활동순으로 조회합니다.")
+    public ApiResponse<ChatInboxResponse> getInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        Long profileId = SecurityUtil.getCurrentProfileId();
+        ChatInboxResponse inbox = chatService.getInbox(profileId, cursor, size);
+        return ApiResponse.success(inbox);
+    }
+
     @PostMapping("/rooms")
     @Operation(summary = "채팅방 생성", description = "매칭된 상대와 채팅방을 생성합니다.")
     public ApiResponse<ChatRoomResponse> createChatRoom(@RequestParam Long matchId) {
-        Long userId = SecurityUtil.getCurrentUserId();
-        ChatRoomResponse room = chatService.createChatRoom(userId, matchId);
+        Long profileId = SecurityUtil.getCurrentProfileId();
+        ChatRoomResponse room = chatService.createChatRoom(profileId, matchId);
         return ApiResponse.success(room);
     }
 
@@ -55,12 +69,36 @@ public class ChatController {
         return ApiResponse.success(messages);
     }
 
+    @GetMapping("/rooms/{roomId}/messages/history")
+    @Operation(summary = "메시지 히스토리 조회 (커서)",
+            description = "before 로 전달한 메시지 id 이전의 메시지를 최신순으로 size 개 조회합니다. 전체 개수는 계산하지 않습니다.")
+    public ApiResponse<ChatMessageSliceResponse> getMessageHistory(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "30") int size) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        ChatMessageSliceResponse messages = chatService.getMessageHistory(userId, roomId, before, size);
+        return ApiResponse.success(messages);
+    }
+
+    @PostMapping("/rooms/{roomId}/read")
+    @Operation(summary = "메시지 읽음 처리",
+            description = "upTo 로 전달한 메시지 id 까지 (없으면 최신 메시지까지) 읽음 처리하고 현재 읽음 위치를 반환합니다. "
+                          + "상대에게는 /topic/chat/{roomId}/read 로 읽음 확인이 전송됩니다.")
+    public ApiResponse<ChatReadReceiptResponse> markAsRead(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long upTo) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        ChatReadReceiptResponse receipt = chatService.markAsRead(userId, roomId, upTo);
+        return ApiResponse.success(receipt);
+    }
+
     @MessageMapping("/chat/{roomId}/send")
     public void sendMessage(
             @DestinationVariable Long roomId,
             @Payload ChatMessageRequest request,
             Principal principal) {
-        Long userId = Long.parseLong(principal.getName());
+        Long userId = SecurityUtil.getAuthUser(principal).userId();
         chatService.sendMessage(userId, roomId, request);
     }
 }
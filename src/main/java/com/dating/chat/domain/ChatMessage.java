@@ -6,22 +6,21 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "chat_messages", indexes = {
-        @Index(name = "idx_chat_room_created", columnList = "chat_room_id, created_at")
+        @Index(name = "idx_chat_room_created", columnList = "chat_room_id, created_at"),
+        @Index(name = "idx_chat_room_id", columnList = "chat_room_id, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
-public class ChatMessage {
+public class ChatMessage implements Persistable<Long> {
 
+    // SnowflakeIdGenerator 로 애플리케이션에서 발급 (시간순 정렬)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -39,24 +38,37 @@ public class ChatMessage {
     @Column(nullable = false, length = 20)
     private MessageType type = MessageType.TEXT;
 
+    // 읽음 상태는 chat_read_watermarks 로 계산하고, 이 컬럼은 기존 데이터 호환을 위해 false 로만 기록
     @Column(nullable = false)
     private Boolean isRead = false;
 
-    @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Transient
+    private boolean isNew = true;
+
     @Builder
-    public ChatMessage(ChatRoom chatRoom, Profile senderProfile, String content, MessageType type) {
+    public ChatMessage(Long id, ChatRoom chatRoom, Profile senderProfile, String content, MessageType type,
+                       LocalDateTime createdAt) {
+        this.id = id;
         this.chatRoom = chatRoom;
         this.senderProfile = senderProfile;
         this.content = content;
         this.type = type != null ? type : MessageType.TEXT;
         this.isRead = false;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
     }
 
-    public void markAsRead() {
-        this.isRead = true;
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
     }
 
     public enum MessageType {
@@ -0,0 +1,41 @@
+package com.dating.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관 기간이 지난 월 파티션의 메시지를 채팅방별로 최대 block-size 개씩 묶어 gzip 으로 압축한 블록
+// payload 는 id 오름차순 ChatMessageResponse JSON 배열, 같은 방의 블록끼리 id 구간이 겹치지 않음
+@Entity
+@Table(name = "chat_message_archives", indexes = {
+        @Index(name = "idx_chat_archive_room_first", columnList = "chat_room_id, first_message_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(nullable = false)
+    private Long firstMessageId;
+
+    @Column(nullable = false)
+    private Long lastMessageId;
+
+    @Column(nullable = false)
+    private Integer messageCount;
+
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,35 @@
+package com.dating.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 채팅방 참여자마다 한 행, 마지막으로 읽은 메시지 id (이하의 메시지는 모두 읽음)
+// 메시지 행마다 읽음 여부를 갱신하지 않고 이 값으로 읽음 상태와 안 읽은 메시지 수를 계산
+@Entity
+@Table(name = "chat_read_watermarks", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"chat_room_id", "profile_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatReadWatermark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "profile_id", nullable = false)
+    private Long profileId;
+
+    @Column(nullable = false)
+    private Long lastReadMessageId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
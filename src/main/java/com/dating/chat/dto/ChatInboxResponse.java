@@ -0,0 +1,28 @@
+package com.dating.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatInboxResponse {
+    private List<ChatRoomSummaryResponse> rooms;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // limit + 1 개를 조회해 다음 페이지 존재 여부를 판단, 커서는 "{lastActivityAt}_{roomId}"
+    public static ChatInboxResponse of(List<ChatRoomSummaryResponse> rooms, int limit) {
+        boolean hasNext = rooms.size() > limit;
+        List<ChatRoomSummaryResponse> page = hasNext ? rooms.subList(0, limit) : rooms;
+        String nextCursor = null;
+        if (hasNext) {
+            ChatRoomSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = last.getLastActivityAt() + "_" + last.getId();
+        }
+        return new ChatInboxResponse(page, nextCursor, hasNext);
+    }
+}
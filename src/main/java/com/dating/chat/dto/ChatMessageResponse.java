@@ -1,6 +1,8 @@
 package com.dating.chat.dto;
 
 import com.dating.chat.domain.ChatMessage;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +13,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatMessageResponse {
+    // Snowflake 메시지 id 는 2^53 을 넘어 JavaScript number 로 읽으면 반올림되므로 문자열로 내려줌 (커서 / 읽음 위치도 동일)
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
     private Long chatRoomId;
     private Long senderProfileId;
@@ -30,4 +34,9 @@ public class ChatMessageResponse {
                 message.getCreatedAt()
         );
     }
+
+    // 캐시된 응답을 공유하므로 읽음 여부는 복사본에 반영
+    public ChatMessageResponse withRead(boolean read) {
+        return new ChatMessageResponse(id, chatRoomId, senderProfileId, content, type, read, createdAt);
+    }
 }
@@ -0,0 +1,27 @@
+package com.dating.chat.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageSliceResponse {
+    private List<ChatMessageResponse> messages;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long nextCursor;
+    private boolean hasNext;
+
+    // limit + 1 개를 조회해 다음 페이지 존재 여부를 판단
+    public static ChatMessageSliceResponse of(List<ChatMessageResponse> messages, int limit) {
+        boolean hasNext = messages.size() > limit;
+        List<ChatMessageResponse> page = hasNext ? messages.subList(0, limit) : messages;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+        return new ChatMessageSliceResponse(page, nextCursor, hasNext);
+    }
+}
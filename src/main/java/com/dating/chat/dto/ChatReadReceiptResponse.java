@@ -0,0 +1,18 @@
+package com.dating.chat.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// profileId 가 lastReadMessageId 이하의 메시지를 모두 읽음
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadReceiptResponse {
+    private Long chatRoomId;
+    private Long profileId;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long lastReadMessageId;
+}
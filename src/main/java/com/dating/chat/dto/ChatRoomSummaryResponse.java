@@ -0,0 +1,37 @@
+package com.dating.chat.dto;
+
+import com.dating.chat.domain.ChatMessage;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomSummaryResponse {
+    private Long id;
+    private Long matchId;
+    private LocalDateTime createdAt;
+    private Long partnerProfileId;
+    private String partnerNickname;
+    private String partnerImageUrl;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long lastMessageId;
+    private String lastMessagePreview;
+    private ChatMessage.MessageType lastMessageType;
+    private Long lastMessageSenderProfileId;
+    private LocalDateTime lastActivityAt;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long lastReadMessageId;
+    private long unreadCount;
+
+    // 아직 DB 에 기록되지 않은 (Redis 에만 있는) 읽음 워터마크 반영
+    public void applyReadWatermark(Long lastReadMessageId, long unreadCount) {
+        this.lastReadMessageId = lastReadMessageId;
+        this.unreadCount = unreadCount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.dating.chat.event;
+
+import com.dating.chat.cache.RecentMessageCache;
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.dto.ChatReadReceiptResponse;
+import com.dating.common.websocket.StompBrokerRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 재시도 시 같은 메시지가 다시 전송될 수 있으므로 클라이언트는 메시지 id 로 중복 제거
+@Component
+@RequiredArgsConstructor
+public class ChatEventHandler {
+
+    private final StompBrokerRelay stompBrokerRelay;
+    private final RecentMessageCache recentMessageCache;
+
+    @EventListener
+    public void onMessageSent(ChatMessageSentEvent event) {
+        ChatMessageResponse message = event.message();
+        recentMessageCache.append(message);
+        stompBrokerRelay.publish("/topic/chat/" + message.getChatRoomId(), message);
+    }
+
+    @EventListener
+    public void onMessagesRead(MessagesReadEvent event) {
+        stompBrokerRelay.publish("/topic/chat/" + event.chatRoomId() + "/read", new ChatReadReceiptResponse(
+                event.chatRoomId(), event.profileId(), event.lastReadMessageId()));
+    }
+}
@@ -0,0 +1,7 @@
+package com.dating.chat.event;
+
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.common.event.DomainEvent;
+
+public record ChatMessageSentEvent(ChatMessageResponse message) implements DomainEvent {
+}
@@ -0,0 +1,6 @@
+package com.dating.chat.event;
+
+import com.dating.common.event.DomainEvent;
+
+public record MessagesReadEvent(Long chatRoomId, Long profileId, Long lastReadMessageId) implements DomainEvent {
+}
@@ -0,0 +1,97 @@
+package com.dating.chat.repository;
+
+import com.dating.chat.dto.ChatMessageResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageArchiveRepository {
+
+    private static final TypeReference<List<ChatMessageResponse>> MESSAGES_TYPE = new TypeReference<>() {
+    };
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_message_archives
+                (chat_room_id, first_message_id, last_message_id, message_count, payload, archived_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    // 블록 구간이 겹치지 않으므로 cursor 보다 앞에서 시작하는 블록 중 가장 최근 것 하나만 읽음
+    private static final String PREVIOUS_BLOCK_SQL = """
+            SELECT payload FROM chat_message_archives
+            WHERE chat_room_id = ? AND first_message_id < ?
+            ORDER BY first_message_id DESC
+            LIMIT 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // messages 는 같은 채팅방의 id 오름차순
+    public void save(Long chatRoomId, List<ChatMessageResponse> messages) {
+        jdbcTemplate.update(INSERT_SQL,
+                chatRoomId,
+                messages.get(0).getId(),
+                messages.get(messages.size() - 1).getId(),
+                messages.size(),
+                compress(messages),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    // beforeId 이전 메시지를 최신순으로 최대 limit 개, 블록을 하나씩 거슬러 올라가며 읽음
+    public List<ChatMessageResponse> findBefore(Long chatRoomId, long beforeId, int limit) {
+        List<ChatMessageResponse> result = new ArrayList<>(limit);
+        long cursor = beforeId;
+        while (result.size() < limit) {
+            List<byte[]> blocks = jdbcTemplate.query(PREVIOUS_BLOCK_SQL,
+                    (rs, rowNum) -> rs.getBytes("payload"), chatRoomId, cursor);
+            if (blocks.isEmpty()) {
+                break;
+            }
+
+            List<ChatMessageResponse> messages = decompress(blocks.get(0));
+            for (int i = messages.size() - 1; i >= 0 && result.size() < limit; i--) {
+                if (messages.get(i).getId() < cursor) {
+                    result.add(messages.get(i));
+                }
+            }
+            cursor = messages.get(0).getId();
+        }
+        return result;
+    }
+
+    private byte[] compress(List<ChatMessageResponse> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress chat message archive", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<ChatMessageResponse> decompress(byte[] payload) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, MESSAGES_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress chat message archive", e);
+        }
+    }
+}
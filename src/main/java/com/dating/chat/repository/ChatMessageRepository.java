@@ -1,13 +1,52 @@
 package com.dating.chat.repository;
 
 import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.dto.ChatMessageResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
-    Page<ChatMessage> findByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId, Pageable pageable);
+    // 목록 조회는 엔티티 대신 응답 DTO 로 바로 조회 (FK id 만 읽으므로 연관 엔티티를 로딩하지 않음)
+    String RESPONSE_SELECT = "SELECT new com.dating.chat.dto.ChatMessageResponse(" +
+                             "m.id, m.chatRoom.id, m.senderProfile.id, m.content, m.type, m.isRead, m.createdAt) " +
+                             "FROM ChatMessage m ";
+
+    @Query(value = RESPONSE_SELECT +
+                   "WHERE m.chatRoom.id = :chatRoomId ORDER BY m.createdAt DESC",
+           countQuery = "SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom.id = :chatRoomId")
+    Page<ChatMessageResponse> findResponsesByChatRoomId(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT +
+           "WHERE m.chatRoom.id = :chatRoomId ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessageResponse> findLatestResponses(@Param("chatRoomId") Long chatRoomId, Limit limit);
+
+    // createdAt 상한으로 idx_chat_room_created 범위 스캔, id 조건으로 같은 시각의 메시지를 정확히 자름
+    @Query(RESPONSE_SELECT +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.createdAt <= :createdAt AND m.id < :beforeId " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<ChatMessageResponse> findResponsesBefore(@Param("chatRoomId") Long chatRoomId,
+                                                  @Param("beforeId") Long beforeId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  Limit limit);
+
+    // idx_chat_room_id 범위 스캔, 읽음 워터마크 이후 상대가 보낸 메시지 수
+    @Query("SELECT COUNT(m) FROM ChatMessage m " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.senderProfile.id <> :profileId AND m.id > :afterId")
+    long countUnread(@Param("chatRoomId") Long chatRoomId,
+                     @Param("profileId") Long profileId,
+                     @Param("afterId") Long afterId);
+
+    @Query("SELECT m.createdAt FROM ChatMessage m WHERE m.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") Long id);
 }
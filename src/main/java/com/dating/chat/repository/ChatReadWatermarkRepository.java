@@ -0,0 +1,57 @@
+package com.dating.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatReadWatermarkRepository {
+
+    // 워터마크는 앞으로만 이동하므로 늦게 도착한 flush 가 더 최신 값을 덮어쓰지 않음
+    private static final String UPSERT_SQL = """
+            INSERT INTO chat_read_watermarks (chat_room_id, profile_id, last_read_message_id, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (chat_room_id, profile_id) DO UPDATE
+                SET last_read_message_id = GREATEST(chat_read_watermarks.last_read_message_id,
+                                                    EXCLUDED.last_read_message_id),
+                    updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String FIND_BY_ROOM_SQL = """
+            SELECT profile_id, last_read_message_id FROM chat_read_watermarks
+            WHERE chat_room_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<Watermark> watermarks) {
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, watermarks, watermarks.size(), (ps, watermark) -> {
+            ps.setLong(1, watermark.chatRoomId());
+            ps.setLong(2, watermark.profileId());
+            ps.setLong(3, watermark.lastReadMessageId());
+            ps.setTimestamp(4, updatedAt);
+        });
+    }
+
+    // 프로필 id -> 마지막으로 읽은 메시지 id
+    public Map<Long, Long> findByChatRoomId(Long chatRoomId) {
+        Map<Long, Long> watermarks = new HashMap<>();
+        jdbcTemplate.query(FIND_BY_ROOM_SQL,
+                rs -> {
+                    watermarks.put(rs.getLong("profile_id"), rs.getLong("last_read_message_id"));
+                },
+                chatRoomId);
+        return watermarks;
+    }
+
+    public record Watermark(Long chatRoomId, Long profileId, Long lastReadMessageId) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.dating.chat.repository;
+
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.dto.ChatRoomSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomQueryRepository {
+
+    private static final int PREVIEW_LENGTH = 100;
+
+    // 방마다 마지막 메시지는 LATERAL 로 idx_chat_room_created 의 첫 행만 읽고,
+    // 상대 프로필 / 대표 이미지 / 안 읽은 메시지 수까지 한 번의 쿼리로 조회
+    // 안 읽은 메시지는 내 읽음 워터마크보다 큰 id 의 상대 메시지
+    private static final String INBOX_SQL = """
+            WITH rooms AS (
+                SELECT cr.id, cr.match_id, cr.created_at,
+                       CASE WHEN m.from_profile_id = :profileId THEN m.to_profile_id ELSE m.from_profile_id END
+                           AS partner_profile_id,
+                       lm.id AS last_message_id,
+                       LEFT(lm.content, :previewLength) AS last_message_preview,
+                       lm.type AS last_message_type,
+                       lm.sender_profile_id AS last_message_sender_profile_id,
+                       COALESCE(lm.created_at, cr.created_at) AS last_activity_at,
+                       w.last_read_message_id
+                FROM chat_rooms cr
+                JOIN matches m ON m.id = cr.match_id
+                LEFT JOIN LATERAL (
+                    SELECT cm.id, cm.content, cm.type, cm.sender_profile_id, cm.created_at
+                    FROM chat_messages cm
+                    WHERE cm.chat_room_id = cr.id
+                    ORDER BY cm.created_at DESC, cm.id DESC
+                    LIMIT 1
+                ) lm ON TRUE
+                LEFT JOIN chat_read_watermarks w ON w.chat_room_id = cr.id AND w.profile_id = :profileId
+                WHERE m.from_profile_id = :profileId OR m.to_profile_id = :profileId
+            )
+            SELECT r.*,
+                   p.nickname AS partner_nickname,
+                   (SELECT pi.image_url FROM profile_images pi
+                    WHERE pi.profile_id = p.id ORDER BY pi.image_order LIMIT 1) AS partner_image_url,
+                   (SELECT COUNT(*) FROM chat_messages um
+                    WHERE um.chat_room_id = r.id AND um.id > COALESCE(r.last_read_message_id, 0)
+                      AND um.sender_profile_id <> :profileId) AS unread_count
+            FROM rooms r
+            JOIN profiles p ON p.id = r.partner_profile_id
+            %s
+            ORDER BY r.last_activity_at DESC, r.id DESC
+            LIMIT :limit
+            """;
+
+    private static final String CURSOR_CONDITION =
+            "WHERE (r.last_activity_at, r.id) < (CAST(:cursorAt AS TIMESTAMP), CAST(:cursorId AS BIGINT))";
+
+    private static final RowMapper<ChatRoomSummaryResponse> ROW_MAPPER = (rs, rowNum) -> {
+        String lastMessageType = rs.getString("last_message_type");
+        return new ChatRoomSummaryResponse(
+                rs.getLong("id"),
+                rs.getLong("match_id"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getLong("partner_profile_id"),
+                rs.getString("partner_nickname"),
+                rs.getString("partner_image_url"),
+                rs.getObject("last_message_id", Long.class),
+                rs.getString("last_message_preview"),
+                lastMessageType != null ? ChatMessage.MessageType.valueOf(lastMessageType) : null,
+                rs.getObject("last_message_sender_profile_id", Long.class),
+                rs.getObject("last_activity_at", LocalDateTime.class),
+                rs.getObject("last_read_message_id", Long.class),
+                rs.getLong("unread_count")
+        );
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 최근 활동순, (lastActivityAt, id) keyset 페이징
+    public List<ChatRoomSummaryResponse> findInbox(Long profileId, LocalDateTime cursorAt, Long cursorId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("profileId", profileId)
+                .addValue("previewLength", PREVIEW_LENGTH)
+                .addValue("limit", limit);
+
+        String condition = "";
+        if (cursorAt != null && cursorId != null) {
+            condition = CURSOR_CONDITION;
+            params.addValue("cursorAt", cursorAt).addValue("cursorId", cursorId);
+        }
+
+        return jdbcTemplate.query(INBOX_SQL.formatted(condition), params, ROW_MAPPER);
+    }
+}
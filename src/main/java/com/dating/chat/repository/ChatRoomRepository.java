@@ -1,11 +1,13 @@
 package com.dating.chat.repository;
 
 import com.dating.chat.domain.ChatRoom;
+import com.dating.chat.dto.ChatRoomResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +16,10 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     Optional<ChatRoom> findByMatchId(Long matchId);
 
-    @Query("SELECT cr FROM ChatRoom cr " +
-           "WHERE cr.match.fromProfile.id = :profileId OR cr.match.toProfile.id = :profileId")
-    List<ChatRoom> findByProfileId(@Param("profileId") Long profileId);
+    Optional<ChatRoom> findFirstByMatchIdInOrderByIdAsc(Collection<Long> matchIds);
+
+    @Query("SELECT new com.dating.chat.dto.ChatRoomResponse(cr.id, m.id, cr.createdAt) " +
+           "FROM ChatRoom cr JOIN cr.match m " +
+           "WHERE m.fromProfile.id = :profileId OR m.toProfile.id = :profileId")
+    List<ChatRoomResponse> findResponsesByProfileId(@Param("profileId") Long profileId);
 }
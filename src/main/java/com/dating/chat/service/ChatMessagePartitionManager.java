@@ -0,0 +1,158 @@
+package com.dating.chat.service;
+
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.repository.ChatMessageArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// chat_messages 가 created_at 기준 월별 파티션 테이블일 때 (src/main/resources/db/partition_chat_messages.sql)
+// 앞으로 쓸 월 파티션을 미리 만들고, 보관 기간이 지난 파티션은 압축 블록(chat_message_archives)으로 옮긴 뒤 삭제
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.partitioning.enabled", havingValue = "true")
+public class ChatMessagePartitionManager {
+
+    private static final String PARENT_TABLE = "chat_messages";
+    private static final Pattern PARTITION_NAME = Pattern.compile("^chat_messages_p(\\d{6})$");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // 테이블 이름은 search_path 기준으로 찾음 (다른 스키마의 같은 이름 테이블과 섞이지 않도록)
+    private static final String IS_PARTITIONED_SQL = """
+            SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))
+            """;
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+    private final int archiveBlockSize;
+
+    public ChatMessagePartitionManager(
+            JdbcTemplate jdbcTemplate,
+            ChatMessageArchiveRepository chatMessageArchiveRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${chat.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${chat.partitioning.archive-after-months:12}") int archiveAfterMonths,
+            @Value("${chat.partitioning.archive-block-size:1000}") int archiveBlockSize
+    ) {
+        // 파티션 전체를 메모리에 올리지 않도록 커서로 나눠 읽음 (트랜잭션 안에서만 적용)
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(archiveBlockSize);
+        this.chatMessageArchiveRepository = chatMessageArchiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.archiveBlockSize = archiveBlockSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${chat.partitioning.maintenance-cron:0 30 3 * * *}")
+    public void maintain() {
+        try {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, PARENT_TABLE))) {
+                log.warn("chat_messages is not partitioned, run db/partition_chat_messages.sql first");
+                return;
+            }
+            createUpcomingPartitions();
+            archiveColdPartitions();
+        } catch (Exception e) {
+            log.error("Failed to maintain chat message partitions", e);
+        }
+    }
+
+    // 새 월의 메시지가 default 파티션에 쌓이면 그 월 파티션을 만들 수 없으므로 미리 생성
+    private void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(partitionName(month), PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    private void archiveColdPartitions() {
+        YearMonth oldestLiveMonth = YearMonth.now().minusMonths(archiveAfterMonths);
+        for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, PARENT_TABLE)) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (matcher.matches() && YearMonth.parse(matcher.group(1), PARTITION_SUFFIX).isBefore(oldestLiveMonth)) {
+                archive(partition);
+            }
+        }
+    }
+
+    // 복사는 파티션이 붙어 있는 상태에서 읽기 잠금만으로 하고, 마지막에 짧게 분리 + 삭제 (실패하면 전체 롤백)
+    private void archive(String partition) {
+        long startedAt = System.currentTimeMillis();
+        int[] archived = {0};
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<ChatMessageResponse> block = new ArrayList<>(archiveBlockSize);
+            jdbcTemplate.query(
+                    "SELECT id, chat_room_id, sender_profile_id, content, type, is_read, created_at FROM "
+                            + partition + " ORDER BY chat_room_id, id",
+                    rs -> {
+                        ChatMessageResponse message = new ChatMessageResponse(
+                                rs.getLong("id"),
+                                rs.getLong("chat_room_id"),
+                                rs.getLong("sender_profile_id"),
+                                rs.getString("content"),
+                                ChatMessage.MessageType.valueOf(rs.getString("type")),
+                                rs.getBoolean("is_read"),
+                                rs.getObject("created_at", LocalDateTime.class));
+                        if (!block.isEmpty() && (block.size() == archiveBlockSize
+                                || !block.get(0).getChatRoomId().equals(message.getChatRoomId()))) {
+                            flush(block);
+                        }
+                        block.add(message);
+                        archived[0]++;
+                    });
+            flush(block);
+
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+        });
+
+        log.info("Archived chat message partition {} - messages: {}, elapsed: {} ms",
+                partition, archived[0], System.currentTimeMillis() - startedAt);
+    }
+
+    private void flush(List<ChatMessageResponse> block) {
+        if (block.isEmpty()) {
+            return;
+        }
+        chatMessageArchiveRepository.save(block.get(0).getChatRoomId(), block);
+        block.clear();
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_p" + month.format(PARTITION_SUFFIX);
+    }
+}
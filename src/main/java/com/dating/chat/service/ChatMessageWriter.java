@@ -0,0 +1,9 @@
+package com.dating.chat.service;
+
+import com.dating.chat.domain.ChatMessage;
+
+// chat.persistence.mode 에 따라 동기 저장(sync) 또는 Redis stream 을 거친 지연 저장(write-behind)
+public interface ChatMessageWriter {
+
+    void write(ChatMessage message);
+}
@@ -1,28 +1,46 @@
 package com.dating.chat.service;
 
+import com.dating.chat.cache.ChatMember;
+import com.dating.chat.cache.ChatMembershipCache;
+import com.dating.chat.cache.ChatRoomParticipants;
+import com.dating.chat.cache.ReadWatermarkStore;
+import com.dating.chat.cache.RecentMessageCache;
 import com.dating.chat.domain.ChatMessage;
 import com.dating.chat.domain.ChatRoom;
+import com.dating.chat.dto.ChatInboxResponse;
 import com.dating.chat.dto.ChatMessageRequest;
 import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.dto.ChatMessageSliceResponse;
+import com.dating.chat.dto.ChatReadReceiptResponse;
 import com.dating.chat.dto.ChatRoomResponse;
+import com.dating.chat.dto.ChatRoomSummaryResponse;
+import com.dating.chat.event.ChatMessageSentEvent;
+import com.dating.chat.event.MessagesReadEvent;
+import com.dating.chat.repository.ChatMessageArchiveRepository;
 import com.dating.chat.repository.ChatMessageRepository;
+import com.dating.chat.repository.ChatRoomQueryRepository;
 import com.dating.chat.repository.ChatRoomRepository;
+import com.dating.common.event.DomainEventPublisher;
 import com.dating.common.exception.BusinessException;
 import com.dating.common.exception.ErrorCode;
+import com.dating.common.id.SnowflakeIdGenerator;
 import com.dating.match.domain.Match;
 import com.dating.match.repository.MatchRepository;
-import com.dating.profile.domain.Profile;
 import com.dating.profile.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 @Service
 @RequiredArgsConstructor
@@ -30,27 +48,48 @@ import java.util.stream.Collectors;
 public class ChatService {
 
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomQueryRepository chatRoomQueryRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
     private final MatchRepository matchRepository;
     private final ProfileRepository profileRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageWriter chatMessageWriter;
+    private final SnowflakeIdGenerator idGenerator;
+    private final DomainEventPublisher domainEventPublisher;
+    private final RecentMessageCache recentMessageCache;
+    private final ChatMembershipCache chatMembershipCache;
+    private final ReadWatermarkStore readWatermarkStore;
     private final RedisTemplate<String, Object> redisTemplate;
 
-    public List<ChatRoomResponse> getMyChatRooms(Long userId) {
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
+    private static final int MAX_HISTORY_SIZE = 100;
+    private static final int MAX_INBOX_SIZE = 300;
 
-        List<ChatRoom> chatRooms = chatRoomRepository.findByProfileId(profile.getId());
-        return chatRooms.stream()
-                .map(ChatRoomResponse::from)
-                .collect(Collectors.toList());
+    public List<ChatRoomResponse> getMyChatRooms(Long profileId) {
+        return chatRoomRepository.findResponsesByProfileId(profileId);
     }
 
-    @Transactional
-    public ChatRoomResponse createChatRoom(Long userId, Long matchId) {
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
+    public ChatInboxResponse getInbox(Long profileId, String cursor, int size) {
+        LocalDateTime cursorAt = null;
+        Long cursorId = null;
+        if (cursor != null) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                cursorAt = LocalDateTime.parse(cursor.substring(0, separator));
+                cursorId = Long.valueOf(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid inbox cursor");
+            }
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_INBOX_SIZE));
+        List<ChatRoomSummaryResponse> rooms = chatRoomQueryRepository.findInbox(
+                profileId, cursorAt, cursorId, limit + 1);
+        applyPendingWatermarks(profileId, rooms);
+        return ChatInboxResponse.of(rooms, limit);
+    }
 
+    @Transactional
+    public ChatRoomResponse createChatRoom(Long profileId, Long matchId) {
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MATCH_NOT_FOUND));
 
@@ -58,12 +97,20 @@ public class ChatService {
             throw new BusinessException(ErrorCode.CHAT_ACCESS_DENIED, "Match is not confirmed");
         }
 
-        if (!match.getFromProfile().getId().equals(profile.getId()) &&
-            !match.getToProfile().getId().equals(profile.getId())) {
+        if (!match.getFromProfile().getId().equals(profileId) &&
+            !match.getToProfile().getId().equals(profileId)) {
             throw new BusinessException(ErrorCode.CHAT_ACCESS_DENIED);
         }
 
-        ChatRoom chatRoom = chatRoomRepository.findByMatchId(matchId)
+        // 양쪽 사용자가 각자 자기 스와이프 행으로 요청해도 같은 채팅방을 사용
+        // 쌍의 스와이프 행을 잠근 뒤 조회하므로 동시에 요청해도 먼저 커밋된 방을 보고 하나만 생성
+        List<Long> pairMatchIds = matchRepository.findPairForUpdate(
+                        match.getFromProfile().getId(), match.getToProfile().getId())
+                .stream()
+                .map(Match::getId)
+                .toList();
+
+        ChatRoom chatRoom = chatRoomRepository.findFirstByMatchIdInOrderByIdAsc(pairMatchIds)
                 .orElseGet(() -> {
                     ChatRoom newRoom = ChatRoom.builder()
                             .match(match)
@@ -74,49 +121,149 @@ public class ChatService {
         return ChatRoomResponse.from(chatRoom);
     }
 
+    // STOMP 인터셉터의 세션별 확인과 별개로 캐시된 멤버십으로 다시 확인 (warm path 에서는 SQL 없음)
     @Transactional
     public ChatMessageResponse sendMessage(Long userId, Long chatRoomId, ChatMessageRequest request) {
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
-
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
-
-        if (!chatRoom.getMatch().getFromProfile().getId().equals(profile.getId()) &&
-            !chatRoom.getMatch().getToProfile().getId().equals(profile.getId())) {
-            throw new BusinessException(ErrorCode.CHAT_ACCESS_DENIED);
-        }
-
+        Long profileId = authorizeMember(userId, chatRoomId);
+        long messageId = idGenerator.nextId();
         ChatMessage message = ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .senderProfile(profile)
+                .id(messageId)
+                .chatRoom(chatRoomRepository.getReferenceById(chatRoomId))
+                .senderProfile(profileRepository.getReferenceById(profileId))
                 .content(request.getContent())
                 .type(request.getType())
+                .createdAt(SnowflakeIdGenerator.createdAtOf(messageId))
                 .build();
 
-        ChatMessage savedMessage = chatMessageRepository.save(message);
-        ChatMessageResponse response = ChatMessageResponse.from(savedMessage);
+        chatMessageWriter.write(message);
+        ChatMessageResponse response = ChatMessageResponse.from(message);
 
-        messagingTemplate.convertAndSend("/topic/chat/" + chatRoomId, response);
+        // WebSocket 전송과 최근 메시지 캐시 갱신은 커밋 직후 이 스레드에서 ChatEventHandler 가 처리
+        // (stream dispatcher 의 느린 리스너 뒤에 밀리지 않도록 publishLocally)
+        domainEventPublisher.publishLocally(new ChatMessageSentEvent(response));
 
         return response;
     }
 
     public Page<ChatMessageResponse> getMessages(Long userId, Long chatRoomId, Pageable pageable) {
-        Profile profile = profileRepository.findByUserId(userId)
+        authorizeMember(userId, chatRoomId);
+
+        return chatMessageRepository.findResponsesByChatRoomId(chatRoomId, pageable)
+                .map(readStatusOf(chatRoomId));
+    }
+
+    // upToMessageId 이하의 메시지를 모두 읽음 처리 (없으면 최신 메시지까지), 메시지 행은 갱신하지 않음
+    public ChatReadReceiptResponse markAsRead(Long userId, Long chatRoomId, Long upToMessageId) {
+        Long profileId = authorizeMember(userId, chatRoomId);
+
+        // 아직 없는 메시지까지 읽은 것으로 기록되지 않도록 최신 메시지 id 로 제한
+        Optional<Long> latestMessageId = recentMessageCache.getLatest(chatRoomId, 1)
+                .orElseGet(() -> chatMessageRepository.findLatestResponses(chatRoomId, Limit.of(1)))
+                .stream()
+                .findFirst()
+                .map(ChatMessageResponse::getId);
+        if (latestMessageId.isEmpty()) {
+            return new ChatReadReceiptResponse(chatRoomId, profileId, null);
+        }
+
+        long lastReadMessageId = upToMessageId == null
+                ? latestMessageId.get()
+                : Math.min(upToMessageId, latestMessageId.get());
+        if (readWatermarkStore.advance(chatRoomId, profileId, lastReadMessageId)) {
+            // 상대에게 /topic/chat/{roomId}/read 로 읽음 확인 전송
+            domainEventPublisher.publishLocally(new MessagesReadEvent(chatRoomId, profileId, lastReadMessageId));
+            return new ChatReadReceiptResponse(chatRoomId, profileId, lastReadMessageId);
+        }
+        return new ChatReadReceiptResponse(chatRoomId, profileId,
+                readWatermarkStore.getWatermarks(chatRoomId).get(profileId));
+    }
+
+    public ChatMessageSliceResponse getMessageHistory(Long userId, Long chatRoomId, Long beforeId, int size) {
+        authorizeMember(userId, chatRoomId);
+
+        int limit = Math.max(1, Math.min(size, MAX_HISTORY_SIZE));
+        if (beforeId == null) {
+            Optional<List<ChatMessageResponse>> cached = recentMessageCache.getLatest(chatRoomId, limit + 1);
+            if (cached.isPresent()) {
+                return ChatMessageSliceResponse.of(cached.get(), limit);
+            }
+        }
+
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<ChatMessageResponse> messages = beforeId == null
+                ? chatMessageRepository.findLatestResponses(chatRoomId, fetchLimit)
+                : findLiveBefore(chatRoomId, beforeId, fetchLimit);
+
+        // 보관 기간이 지나 chat_message_archives 로 옮겨진 구간은 압축 블록에서 이어서 읽음
+        if (messages.size() <= limit) {
+            long archiveCursor = messages.isEmpty()
+                    ? (beforeId == null ? Long.MAX_VALUE : beforeId)
+                    : messages.get(messages.size() - 1).getId();
+            List<ChatMessageResponse> archived = chatMessageArchiveRepository.findBefore(
+                    chatRoomId, archiveCursor, limit + 1 - messages.size());
+            if (!archived.isEmpty()) {
+                messages = new ArrayList<>(messages);
+                messages.addAll(archived);
+            }
+        }
+
+        return ChatMessageSliceResponse.of(messages.stream().map(readStatusOf(chatRoomId)).toList(), limit);
+    }
+
+    // 캐시된 멤버십으로 확인해 warm path 에서는 권한 확인에 SQL 을 쓰지 않음
+    public Long authorizeMember(Long userId, Long chatRoomId) {
+        ChatMember member = chatMembershipCache.getMember(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
 
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+        ChatRoomParticipants participants = chatMembershipCache.getParticipants(chatRoomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
-        if (!chatRoom.getMatch().getFromProfile().getId().equals(profile.getId()) &&
-            !chatRoom.getMatch().getToProfile().getId().equals(profile.getId())) {
+        if (!member.active() || !participants.contains(member.profileId())) {
             throw new BusinessException(ErrorCode.CHAT_ACCESS_DENIED);
         }
+        return member.profileId();
+    }
+
+    // 받는 사람(보낸 사람이 아닌 참여자)의 워터마크 이하이면 읽음
+    private UnaryOperator<ChatMessageResponse> readStatusOf(Long chatRoomId) {
+        ChatRoomParticipants participants = chatMembershipCache.getParticipants(chatRoomId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+        Map<Long, Long> watermarks = readWatermarkStore.getWatermarks(chatRoomId);
 
-        Page<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByCreatedAtDesc(
-                chatRoomId, pageable);
+        return message -> {
+            Long recipientProfileId = participants.fromProfileId().equals(message.getSenderProfileId())
+                    ? participants.toProfileId()
+                    : participants.fromProfileId();
+            Long watermark = watermarks.get(recipientProfileId);
+            return message.withRead(watermark != null && message.getId() <= watermark);
+        };
+    }
+
+    // 주기적 flush 전이라 DB 보다 앞선 Redis 워터마크가 있는 방만 안 읽은 수를 다시 계산
+    private void applyPendingWatermarks(Long profileId, List<ChatRoomSummaryResponse> rooms) {
+        Map<Long, Long> watermarks = readWatermarkStore.getWatermarksOf(profileId,
+                rooms.stream().map(ChatRoomSummaryResponse::getId).toList());
+
+        for (ChatRoomSummaryResponse room : rooms) {
+            Long watermark = watermarks.get(room.getId());
+            if (watermark == null || (room.getLastReadMessageId() != null && watermark <= room.getLastReadMessageId())) {
+                continue;
+            }
+            long unreadCount = room.getLastMessageId() == null || watermark >= room.getLastMessageId()
+                    ? 0
+                    : chatMessageRepository.countUnread(room.getId(), profileId, watermark);
+            room.applyReadWatermark(watermark, unreadCount);
+        }
+    }
 
-        return messages.map(ChatMessageResponse::from);
+    // Snowflake id 는 생성 시각을 역산하고, 이전 IDENTITY id 만 DB 에서 조회
+    // 라이브 테이블에 없는 IDENTITY id 는 이미 보관된 구간의 cursor 이므로 빈 결과를 돌려 보관 블록에서 읽게 함
+    private List<ChatMessageResponse> findLiveBefore(Long chatRoomId, Long beforeId, Limit limit) {
+        Optional<LocalDateTime> createdAt = SnowflakeIdGenerator.isGenerated(beforeId)
+                ? Optional.of(SnowflakeIdGenerator.createdAtOf(beforeId))
+                : chatMessageRepository.findCreatedAtById(beforeId);
+        return createdAt
+                .map(at -> chatMessageRepository.findResponsesBefore(chatRoomId, beforeId, at, limit))
+                .orElseGet(List::of);
     }
 }
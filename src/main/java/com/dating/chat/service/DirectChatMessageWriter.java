@@ -0,0 +1,20 @@
+package com.dating.chat.service;
+
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.persistence.mode", havingValue = "sync", matchIfMissing = true)
+public class DirectChatMessageWriter implements ChatMessageWriter {
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Override
+    public void write(ChatMessage message) {
+        chatMessageRepository.save(message);
+    }
+}
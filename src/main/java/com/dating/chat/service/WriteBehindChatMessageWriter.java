@@ -0,0 +1,227 @@
+package com.dating.chat.service;
+
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.common.id.SnowflakeIdGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// write-behind 모드: 메시지를 Redis stream 에 먼저 기록하고, 주기적으로 모아서 chat_messages 에 multi-row insert
+// 소비자 그룹 + ACK 로 at-least-once, id 가 미리 발급되어 있어 재처리 시 ON CONFLICT DO NOTHING 으로 멱등
+// 배치 insert 가 데이터 문제로 실패하면 한 건씩 다시 넣고, max-attempts 번 실패한 메시지는 dead letter stream 으로 옮김
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.persistence.mode", havingValue = "write-behind")
+public class WriteBehindChatMessageWriter implements ChatMessageWriter {
+
+    private static final String STREAM_KEY = "chat:messages:stream";
+    private static final String CONSUMER_GROUP = "chat-message-writer";
+    private static final String DEAD_LETTER_KEY = "chat:messages:dead";
+    private static final String ATTEMPTS_KEY = "chat:messages:attempts";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final int COLUMN_COUNT = 7;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Consumer consumer;
+    private final int batchSize;
+    private final Duration claimIdle;
+    private final int maxAttempts;
+
+    public WriteBehindChatMessageWriter(
+            StringRedisTemplate stringRedisTemplate,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            SnowflakeIdGenerator idGenerator,
+            @Value("${chat.persistence.batch-size:500}") int batchSize,
+            @Value("${chat.persistence.claim-idle:30s}") Duration claimIdle,
+            @Value("${chat.persistence.max-attempts:5}") int maxAttempts
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        // 노드 id 기준의 고정된 consumer 이름을 써서 재시작 후 ACK 되지 않은 메시지를 다시 읽음
+        this.consumer = Consumer.from(CONSUMER_GROUP, "node-" + idGenerator.getNodeId());
+        this.batchSize = batchSize;
+        this.claimIdle = claimIdle;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @PostConstruct
+    public void createConsumerGroup() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), CONSUMER_GROUP, ReadOffset.from("0"), true));
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류
+            log.debug("Chat message consumer group already exists: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void write(ChatMessage message) {
+        try {
+            String payload = objectMapper.writeValueAsString(ChatMessageResponse.from(message));
+            stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(PAYLOAD_FIELD, payload))
+                    .withStreamKey(STREAM_KEY));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize chat message " + message.getId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.persistence.flush-interval:200}")
+    public void flush() {
+        try {
+            // 죽었거나 id 가 바뀐 노드가 읽고 ACK 하지 못한 메시지를 가져옴
+            claimIdleMessages();
+
+            // 이전에 읽었지만 ACK 하지 못한 메시지(크래시, 실패한 레코드 등)부터 처리
+            boolean hasMore;
+            do {
+                hasMore = flushBatch(ReadOffset.from("0"));
+            } while (hasMore);
+
+            do {
+                hasMore = flushBatch(ReadOffset.lastConsumed());
+            } while (hasMore);
+        } catch (Exception e) {
+            log.error("Failed to flush chat messages", e);
+        }
+    }
+
+    private void claimIdleMessages() {
+        PendingMessages pending = stringRedisTemplate.opsForStream()
+                .pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), batchSize);
+        RecordId[] idleIds = pending.stream()
+                .filter(message -> !message.getConsumerName().equals(consumer.getName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length > 0) {
+            stringRedisTemplate.opsForStream().claim(STREAM_KEY, CONSUMER_GROUP, consumer.getName(),
+                    XClaimOptions.minIdle(claimIdle).ids(idleIds));
+        }
+    }
+
+    // 실패한 레코드는 ACK 하지 않고 남겨 두므로, 이번 배치에서 처리한 것이 있을 때만 이어서 읽음
+    private boolean flushBatch(ReadOffset readOffset) {
+        List<MapRecord<String, Object, Object>> records = read(readOffset);
+        if (records == null || records.isEmpty()) {
+            return false;
+        }
+
+        List<RecordId> doneIds;
+        try {
+            List<ChatMessageResponse> messages = new ArrayList<>(records.size());
+            for (MapRecord<String, Object, Object> record : records) {
+                messages.add(parse(record));
+            }
+            insert(messages);
+            doneIds = records.stream().map(MapRecord::getId).toList();
+        } catch (JsonProcessingException | NonTransientDataAccessException e) {
+            // DB 장애 같은 일시적 오류는 그대로 던져 다음 주기에 배치째 재시도
+            log.warn("Chat message batch insert failed, retrying one by one: {}", e.getMessage());
+            doneIds = flushOneByOne(records);
+        }
+
+        if (!doneIds.isEmpty()) {
+            RecordId[] recordIds = doneIds.toArray(RecordId[]::new);
+            stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordIds);
+            stringRedisTemplate.opsForStream().delete(STREAM_KEY, recordIds);
+        }
+        return records.size() == batchSize && !doneIds.isEmpty();
+    }
+
+    // 저장했거나 dead letter 로 옮긴 레코드 id
+    private List<RecordId> flushOneByOne(List<MapRecord<String, Object, Object>> records) {
+        List<RecordId> doneIds = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            String attemptField = record.getId().getValue();
+            try {
+                insert(List.of(parse(record)));
+                stringRedisTemplate.opsForHash().delete(ATTEMPTS_KEY, attemptField);
+                doneIds.add(record.getId());
+            } catch (JsonProcessingException | NonTransientDataAccessException e) {
+                long attempts = stringRedisTemplate.opsForHash().increment(ATTEMPTS_KEY, attemptField, 1);
+                if (attempts >= maxAttempts) {
+                    deadLetter(record, e);
+                    stringRedisTemplate.opsForHash().delete(ATTEMPTS_KEY, attemptField);
+                    doneIds.add(record.getId());
+                }
+            }
+        }
+        return doneIds;
+    }
+
+    private void deadLetter(MapRecord<String, Object, Object> record, Exception cause) {
+        log.error("Moving chat message record {} to {} after {} attempts", record.getId(), DEAD_LETTER_KEY, maxAttempts, cause);
+        stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                        "recordId", record.getId().getValue(),
+                        PAYLOAD_FIELD, String.valueOf(record.getValue().get(PAYLOAD_FIELD)),
+                        "error", String.valueOf(cause.getMessage())))
+                .withStreamKey(DEAD_LETTER_KEY));
+    }
+
+    // StreamOffset 하나를 generic varargs 로 넘기므로 unchecked 경고가 나지만 안전함
+    @SuppressWarnings("unchecked")
+    private List<MapRecord<String, Object, Object>> read(ReadOffset readOffset) {
+        return stringRedisTemplate.opsForStream().read(
+                consumer,
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(STREAM_KEY, readOffset));
+    }
+
+    private ChatMessageResponse parse(MapRecord<String, Object, Object> record) throws JsonProcessingException {
+        return objectMapper.readValue((String) record.getValue().get(PAYLOAD_FIELD), ChatMessageResponse.class);
+    }
+
+    private void insert(List<ChatMessageResponse> messages) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO chat_messages (id, chat_room_id, sender_profile_id, content, type, is_read, created_at) VALUES ");
+        List<Object> params = new ArrayList<>(messages.size() * COLUMN_COUNT);
+
+        for (int i = 0; i < messages.size(); i++) {
+            ChatMessageResponse message = messages.get(i);
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?)");
+            params.add(message.getId());
+            params.add(message.getChatRoomId());
+            params.add(message.getSenderProfileId());
+            params.add(message.getContent());
+            params.add(message.getType().name());
+            params.add(message.getIsRead());
+            params.add(Timestamp.valueOf(message.getCreatedAt()));
+        }
+        sql.append(" ON CONFLICT DO NOTHING");
+
+        jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
@@ -0,0 +1,94 @@
+package com.dating.common.config;
+
+import com.dating.common.datasource.ReadYourWritesFilter;
+import com.dating.common.datasource.RecentWriteTracker;
+import com.dating.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// datasource.replica.enabled=true 일 때만 primary + replica 라우팅 DataSource 를 구성 (기본은 Boot 의 단일 DataSource)
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${datasource.replica.urls:}") List<String> urls,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password,
+            @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${datasource.replica.connection-timeout:3s}") Duration connectionTimeout,
+            @Value("${datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${datasource.replica.lag-check-interval:2s}") Duration lagCheckInterval,
+            @Value("${spring.datasource.hikari.connection-init-sql:}") String connectionInitSql
+    ) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.getDriverClassName())
+                    .url(url.trim())
+                    .username(username.isEmpty() ? properties.getUsername() : username)
+                    .password(password.isEmpty() ? properties.getPassword() : password)
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            if (!connectionInitSql.isBlank()) {
+                replica.setConnectionInitSql(connectionInitSql);
+            }
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, lagCheckInterval);
+    }
+
+    // 트랜잭션의 readOnly 여부가 정해진 뒤 첫 쿼리 시점에 커넥션을 얻도록 지연
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public RecentWriteTracker recentWriteTracker(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${datasource.replica.read-your-writes-window:5s}") Duration window
+    ) {
+        return new RecentWriteTracker(stringRedisTemplate, window);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(RecentWriteTracker recentWriteTracker) {
+        return new ReadYourWritesFilter(recentWriteTracker);
+    }
+}
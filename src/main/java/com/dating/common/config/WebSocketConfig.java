@@ -1,18 +1,70 @@
 package com.dating.common.config;
 
+import com.dating.common.websocket.PrimaryRoutingChannelInterceptor;
+import com.dating.common.websocket.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final PrimaryRoutingChannelInterceptor primaryRoutingChannelInterceptor;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Value("${websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.inbound.virtual-threads:false}")
+    private boolean inboundVirtualThreads;
+
+    @Value("${websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.message-size-limit:64KB}")
+    private DataSize messageSizeLimit;
+
+    @Value("${websocket.send-buffer-size-limit:512KB}")
+    private DataSize sendBufferSizeLimit;
+
+    @Value("${websocket.send-time-limit:10s}")
+    private Duration sendTimeLimit;
+
+    @Value("${websocket.time-to-first-message:30s}")
+    private Duration timeToFirstMessage;
+
+    public WebSocketConfig(PrimaryRoutingChannelInterceptor primaryRoutingChannelInterceptor,
+                           StompAuthChannelInterceptor stompAuthChannelInterceptor) {
+        this.primaryRoutingChannelInterceptor = primaryRoutingChannelInterceptor;
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        registry.enableSimpleBroker("/topic", "/queue");
         registry.setApplicationDestinationPrefixes("/app");
     }
 
@@ -21,4 +73,47 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws/chat")
                 .setAllowedOriginPatterns("*");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 권한 확인 조회도 primary 에서 하도록 인증 인터셉터보다 먼저 등록
+        registration.interceptors(primaryRoutingChannelInterceptor, stompAuthChannelInterceptor);
+        if (inboundVirtualThreads) {
+            registration.taskExecutor(virtualThreadExecutor());
+        } else {
+            registration.taskExecutor()
+                    .corePoolSize(inboundCorePoolSize)
+                    .maxPoolSize(inboundMaxPoolSize)
+                    .queueCapacity(inboundQueueCapacity);
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    // 세션별 송신 버퍼가 한도를 넘거나 한 번의 전송이 시간 제한을 넘으면 해당 세션만 끊어
+    // 느린 클라이언트가 outbound 스레드를 붙잡고 다른 세션 전달을 막지 않도록 함
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(Math.toIntExact(messageSizeLimit.toBytes()))
+                .setSendBufferSizeLimit(Math.toIntExact(sendBufferSizeLimit.toBytes()))
+                .setSendTimeLimit(Math.toIntExact(sendTimeLimit.toMillis()))
+                .setTimeToFirstMessage(Math.toIntExact(timeToFirstMessage.toMillis()));
+    }
+
+    // 가상 스레드(JDK 21 이상)로 inbound 메시지를 처리, 동시 처리 수는 max-pool-size 로 제한
+    private ThreadPoolTaskExecutor virtualThreadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadFactory(new VirtualThreadTaskExecutor("ws-inbound-").getVirtualThreadFactory());
+        executor.setCorePoolSize(inboundMaxPoolSize);
+        executor.setMaxPoolSize(inboundMaxPoolSize);
+        executor.setQueueCapacity(inboundQueueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
@@ -0,0 +1,49 @@
+package com.dating.common.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+// 여러 요청이 공유하는 캐시를 채우는 조회는 replica 지연으로 옛 값이 캐시에 남지 않도록 primary 에서 실행
+// 이미 replica 커넥션을 잡았을 수 있는 읽기 전용 트랜잭션 안에서는 별도 트랜잭션으로 실행
+// (쓰기 트랜잭션은 이미 primary 이므로 그대로 참여해 primary 풀에서 커넥션을 두 개 잡지 않음)
+@Component
+public class PrimaryReader {
+
+    private final boolean replicaEnabled;
+    private final TransactionTemplate newReadOnlyTransaction;
+
+    public PrimaryReader(
+            PlatformTransactionManager transactionManager,
+            @Value("${datasource.replica.enabled:false}") boolean replicaEnabled
+    ) {
+        this.replicaEnabled = replicaEnabled;
+        this.newReadOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.newReadOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.newReadOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        if (!replicaEnabled || ReplicaRoutingContext.isPinnedToPrimary()) {
+            return reader.get();
+        }
+
+        boolean inReadOnlyTransaction = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (TransactionSynchronizationManager.isActualTransactionActive() && !inReadOnlyTransaction) {
+            return reader.get();
+        }
+
+        ReplicaRoutingContext.pinToPrimary();
+        try {
+            return inReadOnlyTransaction ? newReadOnlyTransaction.execute(status -> reader.get()) : reader.get();
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+}
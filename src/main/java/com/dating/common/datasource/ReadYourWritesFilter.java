@@ -0,0 +1,53 @@
+package com.dating.common.datasource;
+
+import com.dating.common.security.AuthUser;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+// 쓰기 요청 (GET 이외) 은 primary 로만 처리하고, 처리 전에 기록해 응답을 받은 클라이언트의 다음 읽기가 replica 지연으로 옛 값을 보지 않도록 함
+// 보안 필터 체인 뒤에서 실행되어 인증된 사용자를 알 수 있음
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final RecentWriteTracker recentWriteTracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long userId = currentUserId();
+        if (userId != null) {
+            if (!READ_METHODS.contains(request.getMethod())) {
+                // 쓰기 요청 안의 읽기 전용 트랜잭션도 방금 쓴 값을 읽을 수 있도록 primary 로
+                recentWriteTracker.markWrite(userId);
+                ReplicaRoutingContext.pinToPrimary();
+            } else if (recentWriteTracker.isRecentWriter(userId)) {
+                ReplicaRoutingContext.pinToPrimary();
+            }
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.userId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.dating.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+// 쓰기 요청을 보낸 사용자를 window 동안 기억해 그 사용자의 읽기를 primary 로 보냄 (read-your-writes)
+// 다른 노드로 간 요청도 알 수 있도록 Redis 에도 기록, 같은 노드에서는 로컬 캐시로 Redis 조회를 생략
+@Slf4j
+public class RecentWriteTracker {
+
+    private static final String KEY_PREFIX = "db:recent-write:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration window;
+    private final Cache<Long, Boolean> localWriters;
+
+    public RecentWriteTracker(StringRedisTemplate stringRedisTemplate, Duration window) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.window = window;
+        this.localWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void markWrite(Long userId) {
+        localWriters.put(userId, Boolean.TRUE);
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", window);
+        } catch (Exception e) {
+            log.warn("Failed to record recent write - userId: {}", userId, e);
+        }
+    }
+
+    public boolean isRecentWriter(Long userId) {
+        if (localWriters.getIfPresent(userId) != null) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (Exception e) {
+            // 확인할 수 없으면 primary 로 보내 오래된 값을 읽지 않도록 함
+            log.warn("Failed to read recent write - userId: {}", userId, e);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.dating.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션은 복제 지연이 max-lag 이하인 replica 중 하나로 (round-robin), 그 외에는 primary 로 보냄
+// 트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않으므로 반드시 LazyConnectionDataSourceProxy 뒤에 둠
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+    // WAL 을 모두 적용했으면 0, 아니면 마지막 적용 트랜잭션 이후 경과 시간 (replica 가 아닌 DB 는 null -> 0)
+    private static final String LAG_SQL = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final Map<String, HikariDataSource> replicas;
+    private final Duration maxLag;
+    private final Duration lagCheckInterval;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    // 첫 지연 확인 전까지는 primary 만 사용
+    private volatile List<String> availableReplicas = List.of();
+    private ScheduledExecutorService lagChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas,
+                                    Duration maxLag, Duration lagCheckInterval) {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.lagCheckInterval = lagCheckInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (replicas.isEmpty()) {
+            return;
+        }
+        // replica 연결이 막혀도 다른 @Scheduled 작업이 밀리지 않도록 별도 스레드에서 확인
+        lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicaLag, 0, lagCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicaRoutingContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        List<String> available = availableReplicas;
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(nextReplica.getAndIncrement(), available.size()));
+    }
+
+    private void checkReplicaLag() {
+        List<String> available = new ArrayList<>(replicas.size());
+        replicas.forEach((name, replica) -> {
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                resultSet.next();
+                long lagMs = (long) (resultSet.getDouble(1) * 1000);
+                if (lagMs <= maxLag.toMillis()) {
+                    available.add(name);
+                } else {
+                    log.warn("Replica {} is lagging by {} ms, routing reads to primary", name, lagMs);
+                }
+            } catch (SQLException e) {
+                log.warn("Replica {} is unavailable: {}", name, e.getMessage());
+            }
+        });
+
+        if (!available.equals(availableReplicas)) {
+            log.info("Available read replicas: {}", available);
+        }
+        availableReplicas = List.copyOf(available);
+    }
+
+    @Override
+    public void close() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
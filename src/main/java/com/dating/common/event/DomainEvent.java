@@ -0,0 +1,5 @@
+package com.dating.common.event;
+
+// 커밋 이후 Redis stream 을 거쳐 (publishLocally 는 바로) @EventListener 로 전달되는 도메인 이벤트 (Jackson 으로 직렬화 가능한 record)
+public interface DomainEvent {
+}
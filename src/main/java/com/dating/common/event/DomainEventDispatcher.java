@@ -0,0 +1,239 @@
+package com.dating.common.event;
+
+import com.dating.common.id.SnowflakeIdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 도메인 이벤트 stream 을 소비자 그룹으로 batch 단위로 읽어 로컬 @EventListener 에게 전달
+// 커밋 직후 wakeUp 으로 바로 깨어나고, 그 외에는 poll-interval 마다 다른 노드가 쌓은 이벤트를 확인
+// 리스너가 예외를 던지면 ACK 하지 않고 retry-interval 마다 pending 목록에서 다시 읽어 max-attempts 까지 재시도 (at-least-once)
+// 죽었거나 lease 만료로 노드 id 가 바뀐 consumer 가 claim-idle 넘게 ACK 하지 않은 이벤트는 가져와 처리
+@Slf4j
+@Component
+public class DomainEventDispatcher {
+
+    static final String STREAM_KEY = "domain:events:stream";
+    static final String TYPE_FIELD = "type";
+    static final String PAYLOAD_FIELD = "payload";
+    private static final String CONSUMER_GROUP = "domain-event-dispatcher";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Consumer consumer;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration retryInterval;
+    private final Duration claimIdle;
+    private final int maxAttempts;
+
+    private final Semaphore wakeups = new Semaphore(0);
+    // dispatcher 스레드에서만 접근
+    private final Map<RecordId, Integer> failedAttempts = new HashMap<>();
+
+    private ExecutorService worker;
+    private volatile boolean running;
+
+    public DomainEventDispatcher(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher applicationEventPublisher,
+            SnowflakeIdGenerator idGenerator,
+            @Value("${domain-event.dispatcher.batch-size:100}") int batchSize,
+            @Value("${domain-event.dispatcher.poll-interval:1s}") Duration pollInterval,
+            @Value("${domain-event.dispatcher.retry-interval:5s}") Duration retryInterval,
+            @Value("${domain-event.dispatcher.claim-idle:30s}") Duration claimIdle,
+            @Value("${domain-event.dispatcher.max-attempts:5}") int maxAttempts
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        // 노드 id 기준의 고정된 consumer 이름을 써서 재시작 후 ACK 되지 않은 이벤트를 다시 읽음
+        this.consumer = Consumer.from(CONSUMER_GROUP, "node-" + idGenerator.getNodeId());
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.retryInterval = retryInterval;
+        this.claimIdle = claimIdle;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @PostConstruct
+    public void start() {
+        createConsumerGroup();
+        running = true;
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "domain-event-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.submit(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.shutdownNow();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public void wakeUp() {
+        wakeups.release();
+    }
+
+    private void createConsumerGroup() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), CONSUMER_GROUP, ReadOffset.from("0"), true));
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류
+            log.debug("Domain event consumer group already exists: {}", e.getMessage());
+        }
+    }
+
+    private void run() {
+        // 시작 직후 한 번은 이전 실행에서 ACK 하지 못한 이벤트부터 처리
+        long nextRetryAt = 0;
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                if (now >= nextRetryAt) {
+                    dispatchPending();
+                    nextRetryAt = now + retryInterval.toMillis();
+                }
+                dispatchNew();
+            } catch (Exception e) {
+                log.error("Failed to dispatch domain events", e);
+            }
+
+            try {
+                wakeups.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                wakeups.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 실패한 이벤트는 pending 에 남으므로 마지막으로 읽은 id 이후부터 이어서 읽어야 같은 batch 를 반복하지 않음
+    private void dispatchPending() throws Exception {
+        claimIdleEvents();
+
+        ReadOffset offset = ReadOffset.from("0");
+        List<MapRecord<String, Object, Object>> records;
+        do {
+            records = read(offset);
+            dispatch(records);
+            if (!records.isEmpty()) {
+                offset = ReadOffset.from(records.get(records.size() - 1).getId());
+            }
+        } while (records.size() == batchSize);
+    }
+
+    private void dispatchNew() throws Exception {
+        List<MapRecord<String, Object, Object>> records;
+        do {
+            records = read(ReadOffset.lastConsumed());
+            dispatch(records);
+        } while (records.size() == batchSize);
+    }
+
+    private void claimIdleEvents() {
+        RecordId[] idleIds = stringRedisTemplate.opsForStream()
+                .pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), batchSize)
+                .stream()
+                .filter(message -> !message.getConsumerName().equals(consumer.getName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length > 0) {
+            stringRedisTemplate.opsForStream().claim(STREAM_KEY, CONSUMER_GROUP, consumer.getName(),
+                    XClaimOptions.minIdle(claimIdle).ids(idleIds));
+        }
+    }
+
+    // StreamOffset 하나를 generic varargs 로 넘기므로 unchecked 경고가 나지만 안전함
+    @SuppressWarnings("unchecked")
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                consumer,
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(STREAM_KEY, offset));
+        return records == null ? List.of() : records;
+    }
+
+    private void dispatch(List<MapRecord<String, Object, Object>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        List<RecordId> completed = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            if (dispatch(record)) {
+                completed.add(record.getId());
+            }
+        }
+
+        if (!completed.isEmpty()) {
+            RecordId[] recordIds = completed.toArray(RecordId[]::new);
+            stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordIds);
+            stringRedisTemplate.opsForStream().delete(STREAM_KEY, recordIds);
+        }
+    }
+
+    // 처리했거나 더 이상 재시도하지 않을 이벤트면 true
+    private boolean dispatch(MapRecord<String, Object, Object> record) {
+        RecordId recordId = record.getId();
+        Object type = record.getValue().get(TYPE_FIELD);
+        try {
+            applicationEventPublisher.publishEvent(deserialize(record));
+            failedAttempts.remove(recordId);
+            return true;
+        } catch (Exception e) {
+            int attempts = failedAttempts.merge(recordId, 1, Integer::sum);
+            if (attempts >= maxAttempts) {
+                log.error("Dropping domain event after {} attempts - id: {}, type: {}", attempts, recordId, type, e);
+                failedAttempts.remove(recordId);
+                return true;
+            }
+            log.warn("Failed to dispatch domain event - id: {}, type: {}, attempt: {}", recordId, type, attempts, e);
+            return false;
+        }
+    }
+
+    private DomainEvent deserialize(MapRecord<String, Object, Object> record) throws Exception {
+        Class<?> type = ClassUtils.forName((String) record.getValue().get(TYPE_FIELD), getClass().getClassLoader());
+        if (!DomainEvent.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Not a domain event type: " + type.getName());
+        }
+        return (DomainEvent) objectMapper.readValue((String) record.getValue().get(PAYLOAD_FIELD), type);
+    }
+}
@@ -0,0 +1,221 @@
+package com.dating.common.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 트랜잭션 안에서 발행하면 커밋 이후에만 stream 에 기록되고, 롤백되면 버려짐
+// WebSocket 전송 / 푸시 / 캐시 갱신은 DomainEventDispatcher 가 트랜잭션 밖에서 처리
+// Redis 에 기록하지 못한 이벤트는 로컬 spool 에 순서대로 쌓아 두고 backoff 를 늘려 가며 다시 기록 (노드가 죽으면 유실)
+// 채팅 전송처럼 지연에 민감한 이벤트는 publishLocally 로 stream 과 dispatcher 스레드를 거치지 않고 바로 전달
+@Slf4j
+@Component
+public class DomainEventPublisher {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DomainEventDispatcher domainEventDispatcher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int spoolMaxSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    // 가상 스레드에서 Redis 호출 중 carrier 가 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Map<String, String>> spool = new ArrayDeque<>();
+    private Duration backoff;
+    private long nextRetryAt;
+    private volatile boolean spooling;
+
+    public DomainEventPublisher(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            DomainEventDispatcher domainEventDispatcher,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${domain-event.spool.max-size:10000}") int spoolMaxSize,
+            @Value("${domain-event.spool.initial-backoff:500ms}") Duration initialBackoff,
+            @Value("${domain-event.spool.max-backoff:30s}") Duration maxBackoff
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.domainEventDispatcher = domainEventDispatcher;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.spoolMaxSize = spoolMaxSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.backoff = initialBackoff;
+    }
+
+    public void publish(DomainEvent event) {
+        Map<String, String> entry = Map.of(
+                DomainEventDispatcher.TYPE_FIELD, event.getClass().getName(),
+                DomainEventDispatcher.PAYLOAD_FIELD, serialize(event));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(entry);
+                }
+            });
+        } else {
+            append(entry);
+        }
+    }
+
+    // 커밋 직후 현재 스레드에서 이 노드의 @EventListener 에게 전달 (stream 에 기록하지 않으므로 재시도 없음)
+    // 다른 노드로는 리스너가 StompBrokerRelay 로 중계하고, 전달 전에 노드가 죽으면 클라이언트가 히스토리로 다시 맞춤
+    public void publishLocally(DomainEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliverLocally(event);
+                }
+            });
+        } else {
+            deliverLocally(event);
+        }
+    }
+
+    private void deliverLocally(DomainEvent event) {
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (Exception e) {
+            log.error("Failed to deliver domain event locally - type: {}", event.getClass().getName(), e);
+        }
+    }
+
+    // 커밋은 이미 끝났으므로 실패해도 요청을 실패시키지 않고 spool 에 남김
+    // 평소에는 lock 없이 바로 기록하고, spool 이 비어 있지 않은 동안만 순서를 지키도록 뒤에 쌓음
+    private void append(Map<String, String> entry) {
+        if (!spooling) {
+            try {
+                add(entry);
+                domainEventDispatcher.wakeUp();
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to append domain event, spooling - type: {}", entry.get(DomainEventDispatcher.TYPE_FIELD), e);
+            }
+        }
+
+        lock.lock();
+        try {
+            boolean firstFailure = spool.isEmpty();
+            enqueue(entry);
+            spooling = true;
+            if (firstFailure) {
+                delayRetry();
+            } else {
+                flushSpool(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${domain-event.spool.retry-interval:500}")
+    public void retrySpooled() {
+        lock.lock();
+        try {
+            flushSpool(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 종료 전에 backoff 와 상관없이 한 번 더 기록을 시도하고, 남은 이벤트는 로그로 남김
+    @PreDestroy
+    public void drainSpool() {
+        lock.lock();
+        try {
+            flushSpool(true);
+            spool.forEach(entry -> log.error("Dropping spooled domain event on shutdown - type: {}, payload: {}",
+                    entry.get(DomainEventDispatcher.TYPE_FIELD), entry.get(DomainEventDispatcher.PAYLOAD_FIELD)));
+            spool.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int spooledCount() {
+        lock.lock();
+        try {
+            return spool.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushSpool(boolean ignoreBackoff) {
+        if (spool.isEmpty() || (!ignoreBackoff && System.currentTimeMillis() < nextRetryAt)) {
+            return;
+        }
+
+        int flushed = 0;
+        while (!spool.isEmpty()) {
+            try {
+                add(spool.peekFirst());
+            } catch (Exception e) {
+                log.warn("Failed to append spooled domain events, {} remaining: {}", spool.size(), e.getMessage());
+                delayRetry();
+                break;
+            }
+            spool.pollFirst();
+            flushed++;
+        }
+
+        if (spool.isEmpty()) {
+            spooling = false;
+            backoff = initialBackoff;
+            nextRetryAt = 0;
+        }
+        if (flushed > 0) {
+            log.info("Appended {} spooled domain events", flushed);
+            domainEventDispatcher.wakeUp();
+        }
+    }
+
+    private void enqueue(Map<String, String> entry) {
+        if (spool.size() >= spoolMaxSize) {
+            Map<String, String> dropped = spool.pollFirst();
+            log.error("Domain event spool is full, dropping oldest - type: {}, payload: {}",
+                    dropped.get(DomainEventDispatcher.TYPE_FIELD), dropped.get(DomainEventDispatcher.PAYLOAD_FIELD));
+        }
+        spool.addLast(entry);
+    }
+
+    private void delayRetry() {
+        nextRetryAt = System.currentTimeMillis() + backoff.toMillis();
+        Duration doubled = backoff.multipliedBy(2);
+        backoff = doubled.compareTo(maxBackoff) > 0 ? maxBackoff : doubled;
+    }
+
+    private void add(Map<String, String> entry) {
+        stringRedisTemplate.opsForStream().add(StreamRecords.string(entry)
+                .withStreamKey(DomainEventDispatcher.STREAM_KEY));
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize domain event " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.dating.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// app.node-id 를 지정하지 않은 노드는 Redis 에서 비어 있는 노드 id 를 TTL 임대로 받아 씀
+// 임대를 갱신하지 못한 채 TTL 이 지나면 다른 노드가 같은 id 를 받을 수 있으므로 그 뒤로는 id 발급을 멈춤
+@Slf4j
+@Component
+public class NodeIdLease {
+
+    private static final String LEASE_KEY_PREFIX = "node-id:lease:";
+
+    // 내가 가진 임대면 연장, 만료되어 비어 있으면 다시 차지, 다른 노드가 가져갔으면 0
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final String token = UUID.randomUUID().toString();
+
+    private volatile Long leasedNodeId;
+    private volatile long validUntil;
+
+    public NodeIdLease(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${app.node-id-lease.ttl:30s}") Duration ttl
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+    }
+
+    // 임의 위치부터 순서대로 SET NX 를 시도, 모두 사용 중이면 기동 실패
+    public long acquire(long maxNodeId) {
+        long size = maxNodeId + 1;
+        long start = ThreadLocalRandom.current().nextLong(size);
+        for (long i = 0; i < size; i++) {
+            long nodeId = (start + i) % size;
+            long now = System.currentTimeMillis();
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LEASE_KEY_PREFIX + nodeId, token, ttl))) {
+                leasedNodeId = nodeId;
+                validUntil = now + ttl.toMillis();
+                log.info("Leased node id {}", nodeId);
+                return nodeId;
+            }
+        }
+        throw new IllegalStateException("No free node id in 0.." + maxNodeId + ", set app.node-id explicitly");
+    }
+
+    // 임대 없이 고정 id 를 쓰는 노드는 항상 유효
+    public boolean isValid() {
+        return leasedNodeId == null || System.currentTimeMillis() < validUntil;
+    }
+
+    @Scheduled(fixedDelayString = "${app.node-id-lease.renew-interval:10000}")
+    public void renew() {
+        Long nodeId = leasedNodeId;
+        if (nodeId == null) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT,
+                    List.of(LEASE_KEY_PREFIX + nodeId), token, String.valueOf(ttl.toMillis()));
+            if (renewed != null && renewed == 1L) {
+                validUntil = now + ttl.toMillis();
+            } else {
+                validUntil = 0L;
+                log.error("Node id {} lease was taken by another node, id generation stopped", nodeId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to renew node id {} lease", nodeId, e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.dating.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 41bit 타임스탬프(ms) | 10bit 노드 id | 12bit 시퀀스
+// DB 를 거치지 않고 시간순으로 정렬되는 id 를 발급하며, id 에서 생성 시각을 역산할 수 있음
+@Component
+public class SnowflakeIdGenerator {
+
+    private static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    // 이전 IDENTITY 로 발급된 id 와 구분하기 위한 하한 (타임스탬프 부분이 하루 이상)
+    private static final long MIN_GENERATED_ID = 86_400_000L << (NODE_ID_BITS + SEQUENCE_BITS);
+
+    private final NodeIdLease nodeIdLease;
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(@Value("${app.node-id:}") String configuredNodeId, NodeIdLease nodeIdLease) {
+        this.nodeIdLease = nodeIdLease;
+        this.nodeId = resolveNodeId(configuredNodeId, nodeIdLease);
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public synchronized long nextId() {
+        if (!nodeIdLease.isValid()) {
+            throw new IllegalStateException("Node id " + nodeId + " lease expired");
+        }
+        long timestamp = System.currentTimeMillis();
+        if (timestamp < lastTimestamp) {
+            // 시계가 뒤로 간 경우 마지막 시각을 계속 사용
+            timestamp = lastTimestamp;
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = waitNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH_MILLIS) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    public static boolean isGenerated(long id) {
+        return id >= MIN_GENERATED_ID;
+    }
+
+    public static LocalDateTime createdAtOf(long id) {
+        long timestamp = (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+    }
+
+    private long waitNextMillis(long lastTimestamp) {
+        long timestamp = System.currentTimeMillis();
+        while (timestamp <= lastTimestamp) {
+            timestamp = System.currentTimeMillis();
+        }
+        return timestamp;
+    }
+
+    private static long resolveNodeId(String configuredNodeId, NodeIdLease nodeIdLease) {
+        if (configuredNodeId != null && !configuredNodeId.isBlank()) {
+            long nodeId = Long.parseLong(configuredNodeId.trim());
+            if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+                throw new IllegalArgumentException("app.node-id must be between 0 and " + MAX_NODE_ID);
+            }
+            return nodeId;
+        }
+        // 지정하지 않았으면 Redis 임대로 다른 노드가 쓰지 않는 id 를 받음
+        return nodeIdLease.acquire(MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,13 @@
+package com.dating.common.security;
+
+import java.security.Principal;
+
+// 인증된 사용자. 프로필이 아직 없으면 profileId 는 null
+// getName 은 기존 STOMP 핸들러와 호환되도록 사용자 id
+public record AuthUser(Long userId, Long profileId) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
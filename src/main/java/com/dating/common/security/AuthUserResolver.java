@@ -0,0 +1,37 @@
+package com.dating.common.security;
+
+import com.dating.profile.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Optional;
+
+// HTTP 필터와 STOMP CONNECT 에서 공통으로 쓰는 "Bearer 토큰 -> AuthUser" 변환
+@Component
+@RequiredArgsConstructor
+public class AuthUserResolver {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ProfileRepository profileRepository;
+
+    public Optional<AuthUser> resolve(String authorizationHeader) {
+        if (!StringUtils.hasText(authorizationHeader) || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
+        return jwtTokenProvider.authenticate(authorizationHeader.substring(BEARER_PREFIX.length()))
+                .map(this::resolveProfileId);
+    }
+
+    // 토큰 발급 이후에 프로필을 만든 경우에만 조회, 다음 토큰 갱신부터는 클레임으로 전달됨
+    private AuthUser resolveProfileId(AuthUser authUser) {
+        if (authUser.profileId() != null) {
+            return authUser;
+        }
+        return profileRepository.findIdByUserId(authUser.userId())
+                .map(profileId -> new AuthUser(authUser.userId(), profileId))
+                .orElse(authUser);
+    }
+}
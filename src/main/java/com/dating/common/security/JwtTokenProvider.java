@@ -2,6 +2,9 @@ package com.dating.common.security;
 
 import com.dating.common.exception.BusinessException;
 import com.dating.common.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -9,33 +12,72 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String PROFILE_ID_CLAIM = "profileId";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityMs;
     private final long refreshTokenValidityMs;
+    // 토큰 SHA-256 digest -> 검증된 사용자, 토큰 만료 시각에 맞춰 제거
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidityMs,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidityMs
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidityMs,
+            @Value("${jwt.verified-cache.max-size:100000}") long verifiedCacheMaxSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenValidityMs = accessTokenValidityMs;
         this.refreshTokenValidityMs = refreshTokenValidityMs;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAtMs() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
-    public String createAccessToken(Long userId) {
+    public String createAccessToken(Long userId, Long profileId) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidityMs);
 
-        return Jwts.builder()
-                .subject(String.valueOf(userId))
+        JwtBuilder builder = Jwts.builder()
+                .subject(String.valueOf(userId));
+        if (profileId != null) {
+            builder.claim(PROFILE_ID_CLAIM, profileId);
+        }
+        return builder
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(secretKey)
@@ -54,14 +96,30 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    // 요청마다 호출되는 경로: 최근에 검증한 토큰이면 서명 검증 없이, 아니면 한 번만 파싱해서 검증
+    public Optional<AuthUser> authenticate(String token) {
+        ByteBuffer digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified != null && verified.expiresAtMs() > System.currentTimeMillis()) {
+            return Optional.of(verified.authUser());
+        }
+
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            AuthUser authUser = toAuthUser(claims);
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(digest, new VerifiedToken(authUser, claims.getExpiration().getTime()));
+            }
+            return Optional.of(authUser);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public Long getUserIdFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return Long.parseLong(claims.getSubject());
+            return Long.parseLong(jwtParser.parseSignedClaims(token).getPayload().getSubject());
         } catch (ExpiredJwtException e) {
             log.error("Expired JWT token: {}", e.getMessage());
             throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
@@ -73,14 +131,27 @@ public class JwtTokenProvider {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
             return false;
         }
     }
+
+    // 프로필 생성 전에 발급된 토큰에는 profileId 클레임이 없음
+    private static AuthUser toAuthUser(Claims claims) {
+        return new AuthUser(Long.parseLong(claims.getSubject()), claims.get(PROFILE_ID_CLAIM, Long.class));
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(AuthUser authUser, long expiresAtMs) {
+    }
 }
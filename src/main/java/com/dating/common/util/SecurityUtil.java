@@ -2,16 +2,46 @@ package com.dating.common.util;
 
 import com.dating.common.exception.BusinessException;
 import com.dating.common.exception.ErrorCode;
+import com.dating.common.security.AuthUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.security.Principal;
+
 public class SecurityUtil {
 
     public static Long getCurrentUserId() {
+        return getCurrentUser().userId();
+    }
+
+    public static Long getCurrentProfileId() {
+        return requireProfileId(getCurrentUser());
+    }
+
+    public static AuthUser getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
-        return (Long) authentication.getPrincipal();
+        return getAuthUser(authentication);
+    }
+
+    // STOMP 핸들러에 전달되는 Principal 은 핸드셰이크 때의 Authentication
+    public static AuthUser getAuthUser(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser;
+        }
+        if (principal instanceof AuthUser authUser) {
+            return authUser;
+        }
+        throw new BusinessException(ErrorCode.UNAUTHORIZED);
+    }
+
+    public static Long requireProfileId(AuthUser authUser) {
+        if (authUser.profileId() == null) {
+            throw new BusinessException(ErrorCode.PROFILE_NOT_FOUND);
+        }
+        return authUser.profileId();
     }
 }
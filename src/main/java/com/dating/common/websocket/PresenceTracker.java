@@ -0,0 +1,109 @@
+package com.dating.common.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 STOMP 세션을 Redis set (presence:{userId}) 에 기록해 모든 노드에서 접속 여부를 확인
+// 노드가 죽어 disconnect 를 못 받은 세션은 키 TTL 이 갱신되지 않아 ttl 이후 사라짐
+@Slf4j
+@Component
+public class PresenceTracker {
+
+    private static final String KEY_PREFIX = "presence:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    // sessionId -> userId (이 노드에 연결된 세션)
+    private final Map<String, String> localSessions = new ConcurrentHashMap<>();
+
+    public PresenceTracker(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${websocket.presence.ttl:90s}") Duration ttl
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+    }
+
+    public boolean isOnline(Long userId) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (Exception e) {
+            // 확인할 수 없으면 오프라인으로 보고 푸시를 보냄
+            log.warn("Failed to read presence - userId: {}", userId, e);
+            return false;
+        }
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (user == null || sessionId == null) {
+            return;
+        }
+
+        localSessions.put(sessionId, user.getName());
+        String key = KEY_PREFIX + user.getName();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.sAdd(key, sessionId);
+                redis.expire(key, ttl.toSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to record presence - userId: {}", user.getName(), e);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String userId = localSessions.remove(event.getSessionId());
+        if (userId == null) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForSet().remove(KEY_PREFIX + userId, event.getSessionId());
+        } catch (Exception e) {
+            log.warn("Failed to remove presence - userId: {}", userId, e);
+        }
+    }
+
+    // 이 노드에 연결된 사용자의 키 TTL 을 pipeline 으로 한 번에 갱신
+    @Scheduled(fixedDelayString = "${websocket.presence.refresh-interval:30000}")
+    public void refresh() {
+        Set<String> userIds = new HashSet<>(localSessions.values());
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (String userId : userIds) {
+                    redis.expire(KEY_PREFIX + userId, ttl.toSeconds());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to refresh presence for {} users", userIds.size(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.dating.common.websocket;
+
+import com.dating.common.datasource.ReplicaRoutingContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+// STOMP 메시지 처리는 대부분 쓰기(전송, 읽음)이거나 직전에 쓴 값을 읽으므로 replica 대신 primary 에서 처리
+// 인증 / 권한 확인(preSend)은 보내는 스레드에서, 처리는 inbound executor 스레드에서 실행되므로 두 곳 모두 고정
+@Component
+public class PrimaryRoutingChannelInterceptor implements ExecutorChannelInterceptor {
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        ReplicaRoutingContext.pinToPrimary();
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        ReplicaRoutingContext.pinToPrimary();
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        ReplicaRoutingContext.clear();
+    }
+}
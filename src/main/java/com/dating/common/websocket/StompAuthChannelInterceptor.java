@@ -0,0 +1,158 @@
+package com.dating.common.websocket;
+
+import com.dating.chat.service.ChatService;
+import com.dating.common.exception.BusinessException;
+import com.dating.common.exception.ErrorCode;
+import com.dating.common.security.AuthUser;
+import com.dating.common.security.AuthUserResolver;
+import com.dating.common.util.SecurityUtil;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// CONNECT 때 한 번만 JWT 를 검증해 세션에 사용자를 묶고,
+// 채팅방 구독 / 전송 권한은 세션마다 방 단위로 한 번만 확인해 세션 속성에 기억
+// simple broker 와 @MessageMapping 은 AntPathMatcher 로 destination 을 해석하므로 ("/topic/chat/*", "/app/chat/+5/send" 등)
+// /topic, /app/chat 아래는 정확히 일치하는 형태만 허용
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTH_USER_ATTRIBUTE = "authUser";
+    private static final String AUTHORIZED_ROOMS_ATTRIBUTE = "authorizedChatRooms";
+    private static final String QUEUE_PREFIX = "/queue/";
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String USER_PREFIX = "/user/";
+    private static final String CHAT_SEND_PREFIX = "/app/chat/";
+    private static final Pattern CHAT_TOPIC = Pattern.compile("^/topic/chat/([1-9]\\d{0,18})(/read)?$");
+    private static final Pattern CHAT_SEND = Pattern.compile("^/app/chat/([1-9]\\d{0,18})/send$");
+
+    private final AuthUserResolver authUserResolver;
+    private final ChatService chatService;
+
+    // ChatService -> StompBrokerRelay -> 메시지 브로커 설정으로 이어지는 순환을 끊기 위해 지연 주입
+    public StompAuthChannelInterceptor(AuthUserResolver authUserResolver, @Lazy ChatService chatService) {
+        this.authUserResolver = authUserResolver;
+        this.chatService = chatService;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> connect(accessor);
+            case SUBSCRIBE -> {
+                rejectPatternSubscription(accessor);
+                rejectForeignUserQueue(accessor);
+                authorizeChatRoom(accessor, TOPIC_PREFIX, CHAT_TOPIC);
+            }
+            case SEND -> {
+                rejectBrokerSend(accessor);
+                authorizeChatRoom(accessor, CHAT_SEND_PREFIX, CHAT_SEND);
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private void connect(StompHeaderAccessor accessor) {
+        AuthUser authUser = authUserResolver.resolve(accessor.getFirstNativeHeader("Authorization"))
+                .orElseGet(() -> {
+                    // 핸드셰이크 요청에서 이미 인증된 경우
+                    if (accessor.getUser() == null) {
+                        throw new BusinessException(ErrorCode.UNAUTHORIZED);
+                    }
+                    return SecurityUtil.getAuthUser(accessor.getUser());
+                });
+
+        accessor.setUser(new UsernamePasswordAuthenticationToken(authUser, null, Collections.emptyList()));
+        sessionAttributes(accessor).put(AUTH_USER_ATTRIBUTE, authUser);
+    }
+
+    // 사용자 큐는 /user/queue/.. 로만 구독 (세션별로 변환된 /queue/..-user{sessionId} 직접 구독 차단)
+    private void rejectForeignUserQueue(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination != null && destination.startsWith(QUEUE_PREFIX)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    // simple broker 는 구독 destination 을 패턴으로 매칭하므로 "/topic/chat/*" 구독은 모든 방을 받게 됨
+    private void rejectPatternSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null || destination.indexOf('*') >= 0 || destination.indexOf('{') >= 0
+                || destination.indexOf('?') >= 0) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    // 브로커 destination 으로 직접 보내면 권한 확인과 저장 없이 다른 구독자에게 전달되므로 /app 으로만 전송
+    // /user/{name}/queue/** 는 UserDestinationMessageHandler 가 그 사용자의 세션 queue 로 바꿔 전달하므로 함께 막음
+    private void rejectBrokerSend(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null || destination.startsWith(TOPIC_PREFIX) || destination.startsWith(QUEUE_PREFIX)
+                || destination.startsWith(USER_PREFIX)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    // prefix 아래의 destination 은 패턴과 정확히 일치해야 하며, 일치하면 방 참여자인지 확인
+    @SuppressWarnings("unchecked")
+    private void authorizeChatRoom(StompHeaderAccessor accessor, String guardedPrefix, Pattern destinationPattern) {
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(guardedPrefix)) {
+            return;
+        }
+        Matcher matcher = destinationPattern.matcher(destination);
+        if (!matcher.matches()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+
+        Map<String, Object> attributes = sessionAttributes(accessor);
+        AuthUser authUser = (AuthUser) attributes.get(AUTH_USER_ATTRIBUTE);
+        if (authUser == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        Long chatRoomId = parseChatRoomId(matcher.group(1));
+        Set<Long> authorizedRooms = (Set<Long>) attributes.computeIfAbsent(
+                AUTHORIZED_ROOMS_ATTRIBUTE, key -> ConcurrentHashMap.newKeySet());
+        if (!authorizedRooms.contains(chatRoomId)) {
+            chatService.authorizeMember(authUser.userId(), chatRoomId);
+            authorizedRooms.add(chatRoomId);
+        }
+    }
+
+    // 19자리는 Long 범위를 넘을 수 있음
+    private static Long parseChatRoomId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    private static Map<String, Object> sessionAttributes(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,154 @@
+package com.dating.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// simple broker 는 같은 JVM 에 연결된 세션에만 전달하므로, 모든 /topic 발행을 Redis pub/sub 으로 중계하고
+// 각 노드는 로컬 구독자가 있는 destination 의 채널만 구독해 자기 세션에게만 전달
+// 사용자 destination (/user/queue/..) 은 "/user/{userId}/queue/.." 로 발행하고, 해당 사용자가 구독 중인 노드에서만 전달
+@Slf4j
+@Component
+public class StompBrokerRelay implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "stomp:";
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String USER_PREFIX = "/user/";
+    private static final Map<String, Object> JSON_HEADERS =
+            Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+    // destination -> 로컬 구독 수
+    private final Map<String, Integer> localSubscriberCounts = new HashMap<>();
+    // 잠금 안에서 Redis 구독 명령을 보내므로 가상 스레드가 carrier 에 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock subscriptionLock = new ReentrantLock();
+
+    public StompBrokerRelay(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            SimpMessagingTemplate messagingTemplate,
+            ObjectMapper objectMapper
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(String destination, Object payload) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + destination, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize STOMP payload for " + destination, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String destination = channel.substring(CHANNEL_PREFIX.length());
+        messagingTemplate.convertAndSend(destination, message.getBody(), JSON_HEADERS);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = relayedDestination(accessor.getDestination(), event.getUser());
+        if (destination == null) {
+            return;
+        }
+
+        subscriptionLock.lock();
+        try {
+            String previous = sessionSubscriptions
+                    .computeIfAbsent(accessor.getSessionId(), sessionId -> new HashMap<>())
+                    .put(accessor.getSubscriptionId(), destination);
+            if (previous != null) {
+                release(previous);
+            }
+            if (localSubscriberCounts.merge(destination, 1, Integer::sum) == 1) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+            }
+        } finally {
+            subscriptionLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscriptionLock.lock();
+        try {
+            Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+            if (subscriptions == null) {
+                return;
+            }
+            String destination = subscriptions.remove(accessor.getSubscriptionId());
+            if (destination != null) {
+                release(destination);
+            }
+        } finally {
+            subscriptionLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        subscriptionLock.lock();
+        try {
+            Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+            if (subscriptions != null) {
+                subscriptions.values().forEach(this::release);
+            }
+        } finally {
+            subscriptionLock.unlock();
+        }
+    }
+
+    // 구독 destination 을 Redis 채널 이름에 쓰이는 destination 으로 변환, 중계 대상이 아니면 null
+    private static String relayedDestination(String destination, Principal user) {
+        if (destination == null) {
+            return null;
+        }
+        if (destination.startsWith(TOPIC_PREFIX)) {
+            return destination;
+        }
+        if (destination.startsWith(USER_PREFIX) && user != null) {
+            return USER_PREFIX + user.getName() + destination.substring(USER_PREFIX.length() - 1);
+        }
+        return null;
+    }
+
+    private void release(String destination) {
+        Integer remaining = localSubscriberCounts.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+        }
+    }
+}
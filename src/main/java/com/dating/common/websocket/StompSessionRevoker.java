@@ -0,0 +1,54 @@
+package com.dating.common.websocket;
+
+import com.dating.chat.cache.ChatMemberEvictedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 세션별로 기억한 채팅방 권한과 이미 맺은 구독은 멤버십 캐시를 다시 보지 않으므로,
+// 사용자 상태가 바뀌면 이 노드에 연결된 그 사용자의 세션을 ERROR 프레임으로 닫아 다시 CONNECT / 권한 확인을 거치게 함
+@Slf4j
+@Component
+public class StompSessionRevoker {
+
+    private final SimpUserRegistry simpUserRegistry;
+    private final MessageChannel clientOutboundChannel;
+
+    public StompSessionRevoker(
+            SimpUserRegistry simpUserRegistry,
+            @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel
+    ) {
+        this.simpUserRegistry = simpUserRegistry;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    @EventListener
+    public void onMemberEvicted(ChatMemberEvictedEvent event) {
+        revoke(event.userId());
+    }
+
+    public void revoke(Long userId) {
+        SimpUser user = simpUserRegistry.getUser(String.valueOf(userId));
+        if (user == null) {
+            return;
+        }
+        // 닫히는 동안 세션 목록이 바뀔 수 있으므로 복사해서 순회
+        for (SimpSession session : List.copyOf(user.getSessions())) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+            accessor.setSessionId(session.getId());
+            accessor.setMessage("Session revoked");
+            clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+            log.info("Revoked STOMP session {} of user {}", session.getId(), userId);
+        }
+    }
+}
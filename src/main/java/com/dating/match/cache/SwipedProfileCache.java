@@ -0,0 +1,145 @@
+package com.dating.match.cache;
+
+import com.dating.match.repository.MatchRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 프로필별 "이미 스와이프한 프로필" 집합을 압축 bitmap 으로 캐싱 (로컬 LRU + Redis 미러)
+@Slf4j
+@Component
+public class SwipedProfileCache {
+
+    private static final String SWIPED_KEY_PREFIX = "swiped:";
+    private static final long SWIPED_EXPIRE_DAYS = 7;
+
+    private final MatchRepository matchRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<Long, RoaringBitmap> localCache;
+
+    public SwipedProfileCache(
+            MatchRepository matchRepository,
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${match.swiped-cache.max-size:10000}") long maxSize,
+            @Value("${match.swiped-cache.expire-after-access:30m}") Duration expireAfterAccess
+    ) {
+        this.matchRepository = matchRepository;
+        this.redisTemplate = redisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    public boolean isSwiped(Long profileId, Long targetProfileId) {
+        RoaringBitmap swiped = getSwiped(profileId);
+        synchronized (swiped) {
+            return swiped.contains(toIntId(targetProfileId));
+        }
+    }
+
+    public List<Long> filterNotSwiped(Long profileId, List<Long> targetProfileIds) {
+        RoaringBitmap swiped = getSwiped(profileId);
+        synchronized (swiped) {
+            return targetProfileIds.stream()
+                    .filter(targetProfileId -> !swiped.contains(toIntId(targetProfileId)))
+                    .toList();
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 스와이프가 캐시에 남지 않도록 함
+    public void add(Long profileId, Long targetProfileId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(profileId, targetProfileId);
+                }
+            });
+        } else {
+            addNow(profileId, targetProfileId);
+        }
+    }
+
+    // Redis 미러는 전체 bitmap 을 덮어쓰므로, 여러 노드가 같은 프로필의 스와이프를 처리할 때 서로의 추가를 잃지 않도록
+    // 로컬 bitmap 만 갱신하고 미러는 지워서 다음 적재 때 DB 에서 다시 만듦
+    private void addNow(Long profileId, Long targetProfileId) {
+        RoaringBitmap swiped = localCache.getIfPresent(profileId);
+        if (swiped != null) {
+            synchronized (swiped) {
+                swiped.add(toIntId(targetProfileId));
+            }
+        }
+
+        try {
+            redisTemplate.delete(SWIPED_KEY_PREFIX + profileId);
+        } catch (Exception e) {
+            log.warn("Failed to evict swiped set mirror - profileId: {}", profileId, e);
+        }
+    }
+
+    private RoaringBitmap getSwiped(Long profileId) {
+        return localCache.get(profileId, this::load);
+    }
+
+    private RoaringBitmap load(Long profileId) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(SWIPED_KEY_PREFIX + profileId);
+            if (cached instanceof String serialized) {
+                return deserialize(serialized);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read swiped set from redis - profileId: {}", profileId, e);
+        }
+
+        RoaringBitmap swiped = new RoaringBitmap();
+        matchRepository.findSwipedProfileIds(profileId)
+                .forEach(targetProfileId -> swiped.add(toIntId(targetProfileId)));
+        swiped.runOptimize();
+
+        try {
+            redisTemplate.opsForValue().set(SWIPED_KEY_PREFIX + profileId, serialize(swiped),
+                    SWIPED_EXPIRE_DAYS, TimeUnit.DAYS);
+        } catch (Exception e) {
+            log.warn("Failed to mirror swiped set to redis - profileId: {}", profileId, e);
+        }
+        return swiped;
+    }
+
+    private static int toIntId(Long profileId) {
+        return Math.toIntExact(profileId);
+    }
+
+    private static String serialize(RoaringBitmap bitmap) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(bitmap.serializedSizeInBytes());
+            bitmap.serialize(new DataOutputStream(bytes));
+            return Base64.getEncoder().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static RoaringBitmap deserialize(String serialized) throws IOException {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.deserialize(new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(serialized))));
+        return bitmap;
+    }
+}
@@ -2,6 +2,7 @@ package com.dating.match.controller;
 
 import com.dating.common.dto.ApiResponse;
 import com.dating.common.util.SecurityUtil;
+import com.dating.match.dto.MatchPageResponse;
 import com.dating.match.dto.MatchResponse;
 import com.dating.match.service.MatchService;
 import com.dating.profile.dto.ProfileResponse;
@@ -23,34 +24,38 @@ public class MatchController {
     private final MatchService matchService;
 
     @GetMapping("/candidates")
-    @Operation(summary = "추천 프로필 조회", description = "매칭 가능한 추천 프로필 목록을 조회합니다.")
-    public ApiResponse<List<ProfileResponse>> getCandidates() {
-        Long userId = SecurityUtil.getCurrentUserId();
-        List<ProfileResponse> candidates = matchService.getCandidates(userId);
+    @Operation(summary = "추천 프로필 조회", description = "매칭 가능한 추천 프로필 목록을 조회합니다. 다음 페이지는 마지막 프로필 id를 cursor로 전달합니다.")
+    public ApiResponse<List<ProfileResponse>> getCandidates(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        Long profileId = SecurityUtil.getCurrentProfileId();
+        List<ProfileResponse> candidates = matchService.getCandidates(profileId, cursor, size);
         return ApiResponse.success(candidates);
     }
 
     @PostMapping("/{profileId}/like")
     @Operation(summary = "좋아요", description = "특정 프로필에 좋아요를 표시합니다. 상대방도 좋아요를 했다면 매칭이 성사됩니다.")
-    public ApiResponse<MatchResponse> like(@PathVariable Long profileId) {
-        Long userId = SecurityUtil.getCurrentUserId();
-        MatchResponse response = matchService.like(userId, profileId);
+    public ApiResponse<MatchResponse> like(@PathVariable("profileId") Long targetProfileId) {
+        Long profileId = SecurityUtil.getCurrentProfileId();
+        MatchResponse response = matchService.like(profileId, targetProfileId);
         return ApiResponse.success(response);
     }
 
     @PostMapping("/{profileId}/pass")
     @Operation(summary = "패스", description = "특정 프로필을 건너뜁니다.")
-    public ApiResponse<MatchResponse> pass(@PathVariable Long profileId) {
-        Long userId = SecurityUtil.getCurrentUserId();
-        MatchResponse response = matchService.pass(userId, profileId);
+    public ApiResponse<MatchResponse> pass(@PathVariable("profileId") Long targetProfileId) {
+        Long profileId = SecurityUtil.getCurrentProfileId();
+        MatchResponse response = matchService.pass(profileId, targetProfileId);
         return ApiResponse.success(response);
     }
 
     @GetMapping
-    @Operation(summary = "내 매칭 목록", description = "매칭 성사된 목록을 조회합니다.")
-    public ApiResponse<List<MatchResponse>> getMyMatches() {
-        Long userId = SecurityUtil.getCurrentUserId();
-        List<MatchResponse> matches = matchService.getMyMatches(userId);
+    @Operation(summary = "내 매칭 목록", description = "매칭 성사된 목록을 최근 매칭순으로 조회합니다. 상대 프로필 요약과 채팅방 id를 포함하며, 다음 페이지는 nextCursor를 cursor로 전달합니다.")
+    public ApiResponse<MatchPageResponse> getMyMatches(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long profileId = SecurityUtil.getCurrentProfileId();
+        MatchPageResponse matches = matchService.getMyMatches(profileId, cursor, size);
         return ApiResponse.success(matches);
     }
 }
@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "matches", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"from_profile_id", "to_profile_id"})
+}, indexes = {
+        @Index(name = "idx_match_to_profile", columnList = "to_profile_id"),
+        @Index(name = "idx_match_from_matched", columnList = "from_profile_id, matched_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -39,6 +42,9 @@ public class Match {
     @Column(nullable = false)
     private Boolean isMatched = false;
 
+    // 매칭이 성사된 시각, 매칭 목록은 양쪽 행 모두에 기록된 이 값으로 정렬
+    private LocalDateTime matchedAt;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -53,6 +59,7 @@ public class Match {
 
     public void markAsMatched() {
         this.isMatched = true;
+        this.matchedAt = LocalDateTime.now();
     }
 
     public enum MatchAction {
@@ -0,0 +1,33 @@
+package com.dating.match.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 두 프로필 쌍 (작은 id, 큰 id) 마다 한 행, 서로의 좋아요 여부를 기록
+// 좋아요는 이 행에 대한 upsert 로 직렬화되어 동시에 서로 좋아요를 눌러도 정확히 한 쪽에서만 매칭이 성사됨
+@Entity
+@Table(name = "match_pairs", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"low_profile_id", "high_profile_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchPair {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "low_profile_id", nullable = false)
+    private Long lowProfileId;
+
+    @Column(name = "high_profile_id", nullable = false)
+    private Long highProfileId;
+
+    @Column(nullable = false)
+    private Boolean lowLiked = false;
+
+    @Column(nullable = false)
+    private Boolean highLiked = false;
+}
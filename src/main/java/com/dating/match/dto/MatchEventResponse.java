@@ -0,0 +1,19 @@
+package com.dating.match.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// /user/queue/matches 로 전달되는 매칭 이벤트, profileId 는 상대방 프로필 (좋아요는 matchId 없음)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchEventResponse {
+    private EventType type;
+    private Long matchId;
+    private Long profileId;
+
+    public enum EventType {
+        LIKE_RECEIVED, MATCH_CREATED
+    }
+}
@@ -0,0 +1,28 @@
+package com.dating.match.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchPageResponse {
+    private List<MatchSummaryResponse> matches;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // limit + 1 개를 조회해 다음 페이지 존재 여부를 판단, 커서는 "{matchedAt}_{matchId}"
+    public static MatchPageResponse of(List<MatchSummaryResponse> matches, int limit) {
+        boolean hasNext = matches.size() > limit;
+        List<MatchSummaryResponse> page = hasNext ? matches.subList(0, limit) : matches;
+        String nextCursor = null;
+        if (hasNext) {
+            MatchSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = last.getMatchedAt() + "_" + last.getId();
+        }
+        return new MatchPageResponse(page, nextCursor, hasNext);
+    }
+}
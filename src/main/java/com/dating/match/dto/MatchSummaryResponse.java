@@ -0,0 +1,19 @@
+package com.dating.match.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchSummaryResponse {
+    private Long id;
+    private Long partnerProfileId;
+    private String partnerNickname;
+    private String partnerImageUrl;
+    private Long chatRoomId;
+    private LocalDateTime matchedAt;
+}
@@ -0,0 +1,6 @@
+package com.dating.match.event;
+
+import com.dating.common.event.DomainEvent;
+
+public record MatchCreatedEvent(Long matchId, Long fromProfileId, Long toProfileId) implements DomainEvent {
+}
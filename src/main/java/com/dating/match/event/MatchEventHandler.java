@@ -0,0 +1,70 @@
+package com.dating.match.event;
+
+import com.dating.common.websocket.PresenceTracker;
+import com.dating.common.websocket.StompBrokerRelay;
+import com.dating.match.dto.MatchEventResponse;
+import com.dating.notification.dto.NotificationRequest;
+import com.dating.notification.service.NotificationService;
+import com.dating.profile.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 접속 중인 사용자에게는 /user/queue/matches 로, 접속하지 않은 사용자에게는 푸시로 전달
+@Component
+@RequiredArgsConstructor
+public class MatchEventHandler {
+
+    private static final String USER_DESTINATION = "/queue/matches";
+
+    private final ProfileRepository profileRepository;
+    private final StompBrokerRelay stompBrokerRelay;
+    private final PresenceTracker presenceTracker;
+    private final NotificationService notificationService;
+
+    @EventListener
+    public void onLikeReceived(LikeReceivedEvent event) {
+        deliver(event.toProfileId(),
+                new MatchEventResponse(MatchEventResponse.EventType.LIKE_RECEIVED, null, event.fromProfileId()),
+                "새로운 좋아요",
+                "누군가 회원님을 좋아합니다.");
+    }
+
+    @EventListener
+    public void onMatchCreated(MatchCreatedEvent event) {
+        deliver(event.fromProfileId(),
+                new MatchEventResponse(MatchEventResponse.EventType.MATCH_CREATED, event.matchId(), event.toProfileId()),
+                "매칭 성공",
+                "새로운 매칭이 성사되었습니다.");
+        deliver(event.toProfileId(),
+                new MatchEventResponse(MatchEventResponse.EventType.MATCH_CREATED, event.matchId(), event.fromProfileId()),
+                "매칭 성공",
+                "새로운 매칭이 성사되었습니다.");
+    }
+
+    private void deliver(Long profileId, MatchEventResponse response, String title, String body) {
+        Long userId = profileRepository.findUserIdById(profileId).orElse(null);
+        if (userId == null) {
+            return;
+        }
+
+        if (presenceTracker.isOnline(userId)) {
+            stompBrokerRelay.publish("/user/" + userId + USER_DESTINATION, response);
+        } else {
+            notificationService.sendNotificationToUser(userId, new NotificationRequest(title, body, data(response)));
+        }
+    }
+
+    private static Map<String, String> data(MatchEventResponse response) {
+        Map<String, String> data = new HashMap<>();
+        data.put("type", response.getType().name());
+        data.put("profileId", String.valueOf(response.getProfileId()));
+        if (response.getMatchId() != null) {
+            data.put("matchId", String.valueOf(response.getMatchId()));
+        }
+        return data;
+    }
+}
@@ -0,0 +1,35 @@
+package com.dating.match.repository;
+
+import java.util.Collection;
+
+// 후보 조회의 거리 조건
+// profileIds: GEO 반경 검색 결과 / 범위 값: 결과가 max-nearby 에 걸려 잘렸을 때 반경을 감싸는 위·경도 사각형
+public record CandidateArea(Collection<Long> profileIds,
+                            Double minLatitude, Double maxLatitude,
+                            Double minLongitude, Double maxLongitude) {
+
+    private static final double KM_PER_DEGREE = 111.32;
+
+    public static CandidateArea anywhere() {
+        return new CandidateArea(null, null, null, null, null);
+    }
+
+    public static CandidateArea of(Collection<Long> profileIds) {
+        return new CandidateArea(profileIds, null, null, null, null);
+    }
+
+    // 날짜 변경선을 넘거나 극에 가까워 경도 폭이 180도를 넘으면 경도 조건은 생략
+    public static CandidateArea boundingBox(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(latitude)));
+        boolean wrapsLongitude = !(lonDelta < 180) || longitude - lonDelta < -180 || longitude + lonDelta > 180;
+        return new CandidateArea(null,
+                latitude - latDelta, latitude + latDelta,
+                wrapsLongitude ? null : longitude - lonDelta,
+                wrapsLongitude ? null : longitude + lonDelta);
+    }
+
+    public boolean isEmpty() {
+        return profileIds != null && profileIds.isEmpty();
+    }
+}
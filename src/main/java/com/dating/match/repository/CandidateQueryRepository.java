@@ -0,0 +1,87 @@
+package com.dating.match.repository;
+
+import com.dating.profile.domain.Profile;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.dating.match.domain.QMatch.match;
+import static com.dating.profile.domain.QProfile.profile;
+
+@Repository
+@RequiredArgsConstructor
+public class CandidateQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 나이 조건과 id 기반 keyset 페이징만 적용 (스와이프 여부는 호출하는 쪽에서 메모리로 거름)
+    public List<Long> findCandidateIds(Profile myProfile, CandidateArea area, Long cursor, int limit) {
+        return queryFactory
+                .select(profile.id)
+                .from(profile)
+                .where(
+                        profile.id.ne(myProfile.getId()),
+                        within(area),
+                        birthDateWithinAgePreference(myProfile),
+                        idGreaterThan(cursor)
+                )
+                .orderBy(profile.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 이미 스와이프한 프로필까지 anti-join 으로 제외
+    public List<Long> findUnswipedCandidateIds(Profile myProfile, CandidateArea area, Long cursor, int limit) {
+        return queryFactory
+                .select(profile.id)
+                .from(profile)
+                .where(
+                        profile.id.ne(myProfile.getId()),
+                        within(area),
+                        birthDateWithinAgePreference(myProfile),
+                        idGreaterThan(cursor),
+                        notSwipedBy(myProfile.getId())
+                )
+                .orderBy(profile.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 나이는 (올해 - 출생연도) 기준이므로 출생연도 범위로 변환해 birth_date 인덱스를 사용
+    private BooleanExpression birthDateWithinAgePreference(Profile myProfile) {
+        int currentYear = LocalDate.now().getYear();
+        LocalDate from = LocalDate.of(currentYear - myProfile.getMaxAgePreference(), 1, 1);
+        LocalDate to = LocalDate.of(currentYear - myProfile.getMinAgePreference(), 12, 31);
+        return profile.birthDate.between(from, to);
+    }
+
+    private BooleanExpression within(CandidateArea area) {
+        if (area.profileIds() != null) {
+            return profile.id.in(area.profileIds());
+        }
+        if (area.minLatitude() == null) {
+            return null;
+        }
+        BooleanExpression latitude = profile.latitude.between(area.minLatitude(), area.maxLatitude());
+        return area.minLongitude() != null
+                ? latitude.and(profile.longitude.between(area.minLongitude(), area.maxLongitude()))
+                : latitude;
+    }
+
+    private BooleanExpression idGreaterThan(Long cursor) {
+        return cursor != null ? profile.id.gt(cursor) : null;
+    }
+
+    private BooleanExpression notSwipedBy(Long profileId) {
+        return JPAExpressions.selectOne()
+                .from(match)
+                .where(match.fromProfile.id.eq(profileId),
+                        match.toProfile.id.eq(profile.id))
+                .notExists();
+    }
+}
@@ -0,0 +1,66 @@
+package com.dating.match.repository;
+
+import com.dating.match.dto.MatchSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MatchQueryRepository {
+
+    // 매칭이 성사되면 양쪽 행 모두 matched_at 이 채워지므로 내 행만 idx_match_from_matched 로 읽으면 됨
+    // 상대 프로필 / 대표 이미지 / 채팅방 (어느 쪽 행으로 만들었든) 까지 한 번의 쿼리로 조회
+    private static final String MATCHES_SQL = """
+            SELECT m.id, m.to_profile_id AS partner_profile_id, m.matched_at,
+                   p.nickname AS partner_nickname,
+                   (SELECT pi.image_url FROM profile_images pi
+                    WHERE pi.profile_id = p.id ORDER BY pi.image_order LIMIT 1) AS partner_image_url,
+                   (SELECT cr.id FROM chat_rooms cr
+                    WHERE cr.match_id = m.id
+                       OR cr.match_id = (SELECT r.id FROM matches r
+                                         WHERE r.from_profile_id = m.to_profile_id
+                                           AND r.to_profile_id = m.from_profile_id)
+                    ORDER BY cr.id LIMIT 1) AS chat_room_id
+            FROM matches m
+            JOIN profiles p ON p.id = m.to_profile_id
+            WHERE m.from_profile_id = :profileId AND m.matched_at IS NOT NULL
+            %s
+            ORDER BY m.matched_at DESC, m.id DESC
+            LIMIT :limit
+            """;
+
+    private static final String CURSOR_CONDITION =
+            "AND (m.matched_at, m.id) < (CAST(:cursorAt AS TIMESTAMP), CAST(:cursorId AS BIGINT))";
+
+    private static final RowMapper<MatchSummaryResponse> ROW_MAPPER = (rs, rowNum) -> new MatchSummaryResponse(
+            rs.getLong("id"),
+            rs.getLong("partner_profile_id"),
+            rs.getString("partner_nickname"),
+            rs.getString("partner_image_url"),
+            rs.getObject("chat_room_id", Long.class),
+            rs.getObject("matched_at", LocalDateTime.class)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 최근 매칭순, (matchedAt, id) keyset 페이징
+    public List<MatchSummaryResponse> findMatches(Long profileId, LocalDateTime cursorAt, Long cursorId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("profileId", profileId)
+                .addValue("limit", limit);
+
+        String condition = "";
+        if (cursorAt != null && cursorId != null) {
+            condition = CURSOR_CONDITION;
+            params.addValue("cursorAt", cursorAt).addValue("cursorId", cursorId);
+        }
+
+        return jdbcTemplate.query(MATCHES_SQL.formatted(condition), params, ROW_MAPPER);
+    }
+}
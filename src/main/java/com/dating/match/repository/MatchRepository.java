@@ -1,11 +1,15 @@
 package com.dating.match.repository;
 
 import com.dating.match.domain.Match;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,12 +20,23 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
 
     boolean existsByFromProfileIdAndToProfileId(Long fromProfileId, Long toProfileId);
 
+    // 두 프로필 사이의 스와이프 행을 id 순서로 잠가 같은 쌍에 대한 작업을 직렬화 (교착 방지를 위해 순서 고정)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Match m " +
+           "WHERE (m.fromProfile.id = :profileId AND m.toProfile.id = :otherProfileId) " +
+           "OR (m.fromProfile.id = :otherProfileId AND m.toProfile.id = :profileId) " +
+           "ORDER BY m.id")
+    List<Match> findPairForUpdate(@Param("profileId") Long profileId, @Param("otherProfileId") Long otherProfileId);
+
+    @Query("SELECT m.toProfile.id FROM Match m WHERE m.fromProfile.id = :profileId")
+    List<Long> findSwipedProfileIds(@Param("profileId") Long profileId);
+
     @Query("SELECT m FROM Match m WHERE m.fromProfile.id = :profileId AND m.action = 'LIKE'")
     List<Match> findLikesByProfileId(@Param("profileId") Long profileId);
 
-    @Query("SELECT m FROM Match m WHERE m.fromProfile.id = :profileId AND m.isMatched = true")
-    List<Match> findMatchesByProfileId(@Param("profileId") Long profileId);
-
-    @Query("SELECT m FROM Match m WHERE m.toProfile.id = :profileId AND m.action = 'LIKE' AND m.isMatched = false")
-    List<Match> findPendingLikesForProfile(@Param("profileId") Long profileId);
+    @Modifying
+    @Query("UPDATE Match m SET m.isMatched = true, m.matchedAt = :matchedAt " +
+           "WHERE m.fromProfile.id = :fromProfileId AND m.toProfile.id = :toProfileId")
+    int markAsMatched(@Param("fromProfileId") Long fromProfileId, @Param("toProfileId") Long toProfileId,
+                      @Param("matchedAt") LocalDateTime matchedAt);
 }
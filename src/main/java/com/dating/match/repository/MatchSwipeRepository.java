@@ -0,0 +1,94 @@
+package com.dating.match.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// 스와이프 저장과 매칭 판정을 한 문장으로 처리 (대상 프로필 확인 + 중복 스와이프 확인 포함)
+@Repository
+@RequiredArgsConstructor
+public class MatchSwipeRepository {
+
+    // match_pairs upsert 는 충돌한 행을 잠그고 최신 버전에 대해 갱신하므로,
+    // 동시에 서로 좋아요를 누르면 늦게 잠금을 얻은 쪽이 먼저 커밋된 상대 좋아요를 보고 매칭을 판정
+    // 처음 쌍이 만들어질 때는 match_pairs 이전에 저장된 상대의 좋아요도 반영
+    // 중복 스와이프면 swipe 가 비어 있고, 호출한 쪽에서 예외를 던져 match_pairs 변경도 롤백
+    private static final String LIKE_SQL = """
+            WITH target AS (
+                SELECT p.id,
+                       EXISTS (SELECT 1 FROM matches r
+                               WHERE r.from_profile_id = p.id AND r.to_profile_id = :profileId
+                                 AND r.action = 'LIKE') AS liked_me
+                FROM profiles p
+                WHERE p.id = :targetProfileId
+            ), pair AS (
+                INSERT INTO match_pairs (low_profile_id, high_profile_id, low_liked, high_liked)
+                SELECT LEAST(:profileId, t.id), GREATEST(:profileId, t.id),
+                       CASE WHEN :profileId < t.id THEN TRUE ELSE t.liked_me END,
+                       CASE WHEN :profileId < t.id THEN t.liked_me ELSE TRUE END
+                FROM target t
+                ON CONFLICT (low_profile_id, high_profile_id) DO UPDATE
+                    SET low_liked = match_pairs.low_liked OR EXCLUDED.low_liked,
+                        high_liked = match_pairs.high_liked OR EXCLUDED.high_liked
+                RETURNING low_liked AND high_liked AS matched
+            ), swipe AS (
+                INSERT INTO matches (from_profile_id, to_profile_id, action, is_matched, matched_at, created_at)
+                SELECT :profileId, t.id, 'LIKE', p.matched, CASE WHEN p.matched THEN CAST(:createdAt AS TIMESTAMP) END, :createdAt
+                FROM target t, pair p
+                ON CONFLICT (from_profile_id, to_profile_id) DO NOTHING
+                RETURNING id, is_matched
+            )
+            SELECT EXISTS (SELECT 1 FROM target) AS target_exists, s.id, s.is_matched
+            FROM (SELECT 1) d
+            LEFT JOIN swipe s ON TRUE
+            """;
+
+    private static final String PASS_SQL = """
+            WITH target AS (
+                SELECT p.id FROM profiles p WHERE p.id = :targetProfileId
+            ), swipe AS (
+                INSERT INTO matches (from_profile_id, to_profile_id, action, is_matched, created_at)
+                SELECT :profileId, t.id, 'PASS', FALSE, :createdAt
+                FROM target t
+                ON CONFLICT (from_profile_id, to_profile_id) DO NOTHING
+                RETURNING id, is_matched
+            )
+            SELECT EXISTS (SELECT 1 FROM target) AS target_exists, s.id, s.is_matched
+            FROM (SELECT 1) d
+            LEFT JOIN swipe s ON TRUE
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SwipeResult like(Long profileId, Long targetProfileId, LocalDateTime createdAt) {
+        return swipe(LIKE_SQL, profileId, targetProfileId, createdAt);
+    }
+
+    public SwipeResult pass(Long profileId, Long targetProfileId, LocalDateTime createdAt) {
+        return swipe(PASS_SQL, profileId, targetProfileId, createdAt);
+    }
+
+    private SwipeResult swipe(String sql, Long profileId, Long targetProfileId, LocalDateTime createdAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("profileId", profileId)
+                .addValue("targetProfileId", targetProfileId)
+                .addValue("createdAt", Timestamp.valueOf(createdAt));
+
+        return jdbcTemplate.queryForObject(sql, params, (rs, rowNum) -> new SwipeResult(
+                rs.getBoolean("target_exists"),
+                rs.getObject("id", Long.class),
+                rs.getBoolean("is_matched")));
+    }
+
+    // id 가 null 이면 이미 스와이프한 대상
+    public record SwipeResult(boolean targetExists, Long id, boolean matched) {
+
+        public boolean inserted() {
+            return id != null;
+        }
+    }
+}
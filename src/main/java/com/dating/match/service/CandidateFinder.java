@@ -0,0 +1,91 @@
+package com.dating.match.service;
+
+import com.dating.match.cache.SwipedProfileCache;
+import com.dating.match.repository.CandidateArea;
+import com.dating.match.repository.CandidateQueryRepository;
+import com.dating.profile.domain.Profile;
+import com.dating.profile.repository.ProfileGeoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CandidateFinder {
+
+    private static final int CANDIDATE_SCAN_FACTOR = 4;
+
+    private final CandidateQueryRepository candidateQueryRepository;
+    private final ProfileGeoRepository profileGeoRepository;
+    private final SwipedProfileCache swipedProfileCache;
+
+    @Value("${match.geo.max-nearby:5000}")
+    private int maxNearby;
+
+    // 반경 안의 프로필로 먼저 좁힌 뒤, 스와이프 여부는 bitmap 으로 메모리에서 거르고
+    // 좌표 범위로 조회할 때 한 번에 채우지 못한 경우에만 anti-join 쿼리로 나머지를 조회
+    public List<Long> findCandidateIds(Profile myProfile, Long cursor, int limit) {
+        CandidateArea area = findArea(myProfile);
+        if (area.isEmpty()) {
+            return List.of();
+        }
+        if (area.profileIds() != null) {
+            return findAmongNearby(myProfile, area.profileIds(), cursor, limit);
+        }
+
+        int scanSize = limit * CANDIDATE_SCAN_FACTOR;
+        List<Long> scannedIds = candidateQueryRepository.findCandidateIds(
+                myProfile, area, cursor, scanSize);
+
+        List<Long> candidateIds = new ArrayList<>(swipedProfileCache.filterNotSwiped(myProfile.getId(), scannedIds));
+        if (candidateIds.size() >= limit) {
+            return candidateIds.subList(0, limit);
+        }
+
+        if (scannedIds.size() == scanSize) {
+            Long lastScannedId = scannedIds.get(scannedIds.size() - 1);
+            candidateIds.addAll(candidateQueryRepository.findUnswipedCandidateIds(
+                    myProfile, area, lastScannedId, limit - candidateIds.size()));
+        }
+        return candidateIds;
+    }
+
+    // 반경 안 id 는 이미 메모리에 있으므로 keyset / 스와이프 여부를 먼저 거르고 DB 에는 나이 조건만 작은 IN 목록으로 확인
+    // (반경 안 id 전체를 IN 목록으로 넘기면 호출마다 수천 개 파라미터를 바인딩하고 계획을 새로 세워 수십 ms 가 걸림)
+    private List<Long> findAmongNearby(Profile myProfile, Collection<Long> nearbyProfileIds, Long cursor, int limit) {
+        List<Long> sortedIds = nearbyProfileIds.stream()
+                .filter(profileId -> !profileId.equals(myProfile.getId()))
+                .filter(profileId -> cursor == null || profileId > cursor)
+                .sorted()
+                .toList();
+        List<Long> unswipedIds = swipedProfileCache.filterNotSwiped(myProfile.getId(), sortedIds);
+
+        int chunkSize = limit * CANDIDATE_SCAN_FACTOR;
+        List<Long> candidateIds = new ArrayList<>();
+        for (int from = 0; from < unswipedIds.size() && candidateIds.size() < limit; from += chunkSize) {
+            List<Long> chunk = unswipedIds.subList(from, Math.min(from + chunkSize, unswipedIds.size()));
+            candidateIds.addAll(candidateQueryRepository.findCandidateIds(
+                    myProfile, CandidateArea.of(chunk), null, limit - candidateIds.size()));
+        }
+        return candidateIds;
+    }
+
+    // 좌표가 없는 프로필은 거리 조건을 적용하지 않음
+    // GEO 결과가 max-nearby 개로 잘렸다면 잘린 목록에 id keyset 을 걸면 나머지 후보에 닿을 수 없으므로
+    // 반경을 감싸는 좌표 범위로 DB 에서 직접 거름 (모서리 바깥 일부가 섞일 수 있음)
+    private CandidateArea findArea(Profile myProfile) {
+        if (!myProfile.hasCoordinates()) {
+            return CandidateArea.anywhere();
+        }
+        List<Long> nearbyProfileIds = profileGeoRepository.findIdsWithin(
+                myProfile.getLatitude(), myProfile.getLongitude(), myProfile.getMaxDistance(), maxNearby);
+        if (nearbyProfileIds.size() < maxNearby) {
+            return CandidateArea.of(nearbyProfileIds);
+        }
+        return CandidateArea.boundingBox(myProfile.getLatitude(), myProfile.getLongitude(), myProfile.getMaxDistance());
+    }
+}
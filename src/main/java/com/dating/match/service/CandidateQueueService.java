@@ -0,0 +1,198 @@
+package com.dating.match.service;
+
+import com.dating.match.cache.SwipedProfileCache;
+import com.dating.profile.domain.Profile;
+import com.dating.profile.repository.ProfileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 프로필별 추천 후보 id 를 Redis list 에 미리 채워두고, 요청 경로에서는 꺼내기만 함
+@Slf4j
+@Service
+public class CandidateQueueService {
+
+    private static final String QUEUE_KEY_PREFIX = "candidates:";
+    private static final String CURSOR_KEY_PREFIX = "candidates:cursor:";
+    // 무효화할 때마다 증가, refill 과 큐 미스 조회는 시작할 때 읽은 값과 같을 때만 큐 / 커서를 써서 무효화 이전 조건의 결과를 버림
+    private static final String EPOCH_KEY_PREFIX = "candidates:epoch:";
+
+    // 큐 미스 조회는 넣을 후보 없이 커서만 옮김
+    private static final RedisScript<Long> WRITE_IF_CURRENT_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            if #ARGV >= 4 then
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, 4))
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final CandidateFinder candidateFinder;
+    private final SwipedProfileCache swipedProfileCache;
+    private final ProfileRepository profileRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int batchSize;
+    private final int lowWatermark;
+    private final Duration queueTtl;
+
+    private final Set<Long> pendingRefills = ConcurrentHashMap.newKeySet();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer refillTimer;
+
+    public CandidateQueueService(
+            CandidateFinder candidateFinder,
+            SwipedProfileCache swipedProfileCache,
+            ProfileRepository profileRepository,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${match.candidate-queue.batch-size:100}") int batchSize,
+            @Value("${match.candidate-queue.low-watermark:20}") int lowWatermark,
+            @Value("${match.candidate-queue.ttl:1h}") Duration queueTtl
+    ) {
+        this.candidateFinder = candidateFinder;
+        this.swipedProfileCache = swipedProfileCache;
+        this.profileRepository = profileRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.batchSize = batchSize;
+        this.lowWatermark = lowWatermark;
+        this.queueTtl = queueTtl;
+        this.hitCounter = Counter.builder("candidate.queue.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("candidate.queue.requests").tag("result", "miss").register(meterRegistry);
+        this.refillTimer = Timer.builder("candidate.queue.refill").register(meterRegistry);
+    }
+
+    public List<Long> pop(Profile myProfile, int limit) {
+        Long profileId = myProfile.getId();
+        List<String> queued = stringRedisTemplate.opsForList().leftPop(QUEUE_KEY_PREFIX + profileId, limit);
+
+        // 큐에 들어간 이후 스와이프한 프로필은 제외
+        List<Long> candidateIds = new ArrayList<>(swipedProfileCache.filterNotSwiped(profileId, toIds(queued)));
+
+        if (candidateIds.size() < limit) {
+            missCounter.increment();
+            String epoch = getEpoch(profileId);
+            List<Long> found = candidateFinder.findCandidateIds(myProfile, getCursor(profileId), limit - candidateIds.size());
+            if (!found.isEmpty()) {
+                writeIfCurrent(profileId, epoch, found.get(found.size() - 1), List.of());
+            }
+            candidateIds.addAll(found);
+            requestRefill(profileId);
+            return candidateIds;
+        }
+
+        hitCounter.increment();
+        Long remaining = stringRedisTemplate.opsForList().size(QUEUE_KEY_PREFIX + profileId);
+        if (remaining == null || remaining < lowWatermark) {
+            requestRefill(profileId);
+        }
+        return candidateIds;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 비워, 커밋 전에 시작된 refill 이 이전 선호 조건으로 다시 채우지 않도록 함
+    public void invalidate(Long profileId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(profileId);
+                }
+            });
+        } else {
+            invalidateNow(profileId);
+        }
+    }
+
+    private void invalidateNow(Long profileId) {
+        pendingRefills.remove(profileId);
+        String epochKey = EPOCH_KEY_PREFIX + profileId;
+        stringRedisTemplate.opsForValue().increment(epochKey);
+        stringRedisTemplate.expire(epochKey, queueTtl);
+        stringRedisTemplate.delete(List.of(QUEUE_KEY_PREFIX + profileId, CURSOR_KEY_PREFIX + profileId));
+    }
+
+    public void requestRefill(Long profileId) {
+        pendingRefills.add(profileId);
+    }
+
+    @Scheduled(fixedDelayString = "${match.candidate-queue.refill-interval:1000}")
+    public void refillPendingQueues() {
+        for (Long profileId : List.copyOf(pendingRefills)) {
+            pendingRefills.remove(profileId);
+            try {
+                refillTimer.record(() -> refill(profileId));
+            } catch (Exception e) {
+                log.warn("Failed to refill candidate queue - profileId: {}", profileId, e);
+            }
+        }
+    }
+
+    private void refill(Long profileId) {
+        String epoch = getEpoch(profileId);
+        Profile profile = profileRepository.findById(profileId).orElse(null);
+        if (profile == null) {
+            invalidateNow(profileId);
+            return;
+        }
+
+        Long cursor = getCursor(profileId);
+        List<Long> candidateIds = candidateFinder.findCandidateIds(profile, cursor, batchSize);
+
+        if (candidateIds.isEmpty()) {
+            // 끝까지 소진했으면 처음부터 다시 (이미 스와이프한 프로필은 계속 제외됨)
+            if (cursor != null) {
+                stringRedisTemplate.delete(CURSOR_KEY_PREFIX + profileId);
+            }
+            return;
+        }
+
+        writeIfCurrent(profileId, epoch, candidateIds.get(candidateIds.size() - 1), candidateIds);
+    }
+
+    private String getEpoch(Long profileId) {
+        return Objects.requireNonNullElse(stringRedisTemplate.opsForValue().get(EPOCH_KEY_PREFIX + profileId), "0");
+    }
+
+    // 읽은 이후 무효화되지 않았을 때만 후보를 큐 뒤에 넣고 커서를 옮김
+    private void writeIfCurrent(Long profileId, String epoch, Long cursor, List<Long> candidateIds) {
+        List<String> args = new ArrayList<>(candidateIds.size() + 3);
+        args.add(epoch);
+        args.add(String.valueOf(queueTtl.toMillis()));
+        args.add(String.valueOf(cursor));
+        candidateIds.forEach(candidateId -> args.add(String.valueOf(candidateId)));
+        stringRedisTemplate.execute(WRITE_IF_CURRENT_SCRIPT,
+                List.of(QUEUE_KEY_PREFIX + profileId, CURSOR_KEY_PREFIX + profileId, EPOCH_KEY_PREFIX + profileId),
+                args.toArray());
+    }
+
+    private Long getCursor(Long profileId) {
+        String cursor = stringRedisTemplate.opsForValue().get(CURSOR_KEY_PREFIX + profileId);
+        return cursor != null ? Long.valueOf(cursor) : null;
+    }
+
+    private static List<Long> toIds(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(Long::valueOf).toList();
+    }
+}
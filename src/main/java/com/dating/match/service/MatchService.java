@@ -1,10 +1,19 @@
 package com.dating.match.service;
 
+import com.dating.common.event.DomainEventPublisher;
 import com.dating.common.exception.BusinessException;
 import com.dating.common.exception.ErrorCode;
+import com.dating.match.cache.SwipedProfileCache;
 import com.dating.match.domain.Match;
+import com.dating.match.dto.MatchPageResponse;
 import com.dating.match.dto.MatchResponse;
+import com.dating.match.dto.MatchSummaryResponse;
+import com.dating.match.event.LikeReceivedEvent;
+import com.dating.match.event.MatchCreatedEvent;
+import com.dating.match.repository.MatchQueryRepository;
 import com.dating.match.repository.MatchRepository;
+import com.dating.match.repository.MatchSwipeRepository;
+import com.dating.profile.cache.ProfileCache;
 import com.dating.profile.domain.Profile;
 import com.dating.profile.dto.ProfileResponse;
 import com.dating.profile.repository.ProfileRepository;
@@ -12,10 +21,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -23,94 +32,100 @@ import java.util.stream.Collectors;
 public class MatchService {
 
     private final MatchRepository matchRepository;
+    private final MatchQueryRepository matchQueryRepository;
+    private final MatchSwipeRepository matchSwipeRepository;
     private final ProfileRepository profileRepository;
+    private final ProfileCache profileCache;
+    private final SwipedProfileCache swipedProfileCache;
+    private final CandidateFinder candidateFinder;
+    private final CandidateQueueService candidateQueueService;
+    private final DomainEventPublisher domainEventPublisher;
 
-    public List<ProfileResponse> getCandidates(Long userId) {
-        Profile myProfile = profileRepository.findByUserId(userId)
+    private static final int MAX_CANDIDATE_SIZE = 50;
+    private static final int MAX_MATCH_PAGE_SIZE = 100;
+
+    public List<ProfileResponse> getCandidates(Long profileId, Long cursor, int size) {
+        Profile myProfile = profileRepository.findById(profileId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
 
-        List<Profile> candidates = profileRepository.findAll().stream()
-                .filter(profile -> !profile.getId().equals(myProfile.getId()))
-                .filter(profile -> !matchRepository.existsByFromProfileIdAndToProfileId(
-                        myProfile.getId(), profile.getId()))
-                .filter(profile -> isWithinPreferences(myProfile, profile))
-                .limit(10)
-                .collect(Collectors.toList());
-
-        return candidates.stream()
-                .map(ProfileResponse::from)
-                .collect(Collectors.toList());
+        int limit = Math.max(1, Math.min(size, MAX_CANDIDATE_SIZE));
+        List<Long> candidateIds = cursor == null
+                ? candidateQueueService.pop(myProfile, limit)
+                : candidateFinder.findCandidateIds(myProfile, cursor, limit);
+        Map<Long, ProfileResponse> profiles = profileCache.getAll(candidateIds);
+        return candidateIds.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Transactional
-    public MatchResponse like(Long userId, Long targetProfileId) {
-        Profile myProfile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
+    public MatchResponse like(Long profileId, Long targetProfileId) {
+        validateSwipe(profileId, targetProfileId);
 
-        Profile targetProfile = profileRepository.findById(targetProfileId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
+        LocalDateTime createdAt = LocalDateTime.now();
+        MatchSwipeRepository.SwipeResult result = matchSwipeRepository.like(profileId, targetProfileId, createdAt);
+        MatchResponse response = toResponse(result, profileId, targetProfileId, Match.MatchAction.LIKE, createdAt);
 
-        if (myProfile.getId().equals(targetProfile.getId())) {
-            throw new BusinessException(ErrorCode.SELF_MATCH_NOT_ALLOWED);
+        if (result.matched()) {
+            // 상대의 좋아요는 이미 커밋되어 있으므로 새 문장에서 갱신
+            matchRepository.markAsMatched(targetProfileId, profileId, createdAt);
         }
 
-        if (matchRepository.existsByFromProfileIdAndToProfileId(myProfile.getId(), targetProfileId)) {
-            throw new BusinessException(ErrorCode.ALREADY_MATCHED);
-        }
+        // 푸시 알림은 커밋 이후 MatchEventHandler 에서 처리
+        domainEventPublisher.publish(result.matched()
+                ? new MatchCreatedEvent(result.id(), profileId, targetProfileId)
+                : new LikeReceivedEvent(profileId, targetProfileId));
+        return response;
+    }
 
-        Match match = Match.builder()
-                .fromProfile(myProfile)
-                .toProfile(targetProfile)
-                .action(Match.MatchAction.LIKE)
-                .build();
+    @Transactional
+    public MatchResponse pass(Long profileId, Long targetProfileId) {
+        validateSwipe(profileId, targetProfileId);
 
-        Optional<Match> reverseMatch = matchRepository.findByFromProfileIdAndToProfileId(
-                targetProfileId, myProfile.getId());
+        LocalDateTime createdAt = LocalDateTime.now();
+        MatchSwipeRepository.SwipeResult result = matchSwipeRepository.pass(profileId, targetProfileId, createdAt);
+        return toResponse(result, profileId, targetProfileId, Match.MatchAction.PASS, createdAt);
+    }
 
-        if (reverseMatch.isPresent() && reverseMatch.get().getAction() == Match.MatchAction.LIKE) {
-            match.markAsMatched();
-            reverseMatch.get().markAsMatched();
+    public MatchPageResponse getMyMatches(Long profileId, String cursor, int size) {
+        LocalDateTime cursorAt = null;
+        Long cursorId = null;
+        if (cursor != null) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                cursorAt = LocalDateTime.parse(cursor.substring(0, separator));
+                cursorId = Long.valueOf(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid match cursor");
+            }
         }
 
-        Match savedMatch = matchRepository.save(match);
-        return MatchResponse.from(savedMatch);
+        int limit = Math.max(1, Math.min(size, MAX_MATCH_PAGE_SIZE));
+        List<MatchSummaryResponse> matches = matchQueryRepository.findMatches(profileId, cursorAt, cursorId, limit + 1);
+        return MatchPageResponse.of(matches, limit);
     }
 
-    @Transactional
-    public MatchResponse pass(Long userId, Long targetProfileId) {
-        Profile myProfile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
-
-        Profile targetProfile = profileRepository.findById(targetProfileId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
-
-        if (myProfile.getId().equals(targetProfile.getId())) {
+    private void validateSwipe(Long profileId, Long targetProfileId) {
+        if (profileId.equals(targetProfileId)) {
             throw new BusinessException(ErrorCode.SELF_MATCH_NOT_ALLOWED);
         }
-
-        Match match = Match.builder()
-                .fromProfile(myProfile)
-                .toProfile(targetProfile)
-                .action(Match.MatchAction.PASS)
-                .build();
-
-        Match savedMatch = matchRepository.save(match);
-        return MatchResponse.from(savedMatch);
+        if (swipedProfileCache.isSwiped(profileId, targetProfileId)) {
+            throw new BusinessException(ErrorCode.ALREADY_MATCHED);
+        }
     }
 
-    public List<MatchResponse> getMyMatches(Long userId) {
-        Profile myProfile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
-
-        List<Match> matches = matchRepository.findMatchesByProfileId(myProfile.getId());
-        return matches.stream()
-                .map(MatchResponse::from)
-                .collect(Collectors.toList());
-    }
+    // 다른 노드의 캐시가 아직 갱신되지 않아 중복 스와이프가 DB 까지 내려온 경우 swipe 결과가 비어 있음
+    private MatchResponse toResponse(MatchSwipeRepository.SwipeResult result, Long profileId, Long targetProfileId,
+                                     Match.MatchAction action, LocalDateTime createdAt) {
+        if (!result.targetExists()) {
+            throw new BusinessException(ErrorCode.PROFILE_NOT_FOUND);
+        }
+        if (!result.inserted()) {
+            throw new BusinessException(ErrorCode.ALREADY_MATCHED);
+        }
 
-    private boolean isWithinPreferences(Profile myProfile, Profile candidate) {
-        int candidateAge = LocalDate.now().getYear() - candidate.getBirthDate().getYear();
-        return candidateAge >= myProfile.getMinAgePreference() &&
-               candidateAge <= myProfile.getMaxAgePreference();
+        swipedProfileCache.add(profileId, targetProfileId);
+        return new MatchResponse(result.id(), profileId, targetProfileId, action, result.matched(), createdAt);
     }
 }
@@ -0,0 +1,34 @@
+package com.dating.notification.sender;
+
+import com.dating.notification.dto.NotificationRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 부하 테스트용: 네트워크 없이 지연만 흉내내고 항상 성공 처리
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.sender", havingValue = "fake")
+public class FakePushSender implements PushSender {
+
+    private final long latencyMs;
+
+    public FakePushSender(@Value("${notification.fake-sender.latency-ms:50}") long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public PushSendResult send(List<String> tokens, NotificationRequest request) {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return PushSendResult.allRetryable(tokens);
+        }
+        log.debug("Fake push sent - tokens: {}, title: {}", tokens.size(), request.getTitle());
+        return new PushSendResult(tokens.size(), List.of(), List.of());
+    }
+}
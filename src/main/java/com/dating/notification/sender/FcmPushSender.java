@@ -0,0 +1,82 @@
+package com.dating.notification.sender;
+
+import com.dating.notification.dto.NotificationRequest;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.sender", havingValue = "fcm", matchIfMissing = true)
+public class FcmPushSender implements PushSender {
+
+    private static final Set<MessagingErrorCode> RETRYABLE_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE,
+            MessagingErrorCode.INTERNAL,
+            MessagingErrorCode.QUOTA_EXCEEDED
+    );
+
+    @Override
+    public PushSendResult send(List<String> tokens, NotificationRequest request) {
+        if (FirebaseApp.getApps().isEmpty()) {
+            log.warn("Firebase is not initialized. Dropping notification for {} tokens", tokens.size());
+            return new PushSendResult(0, List.of(), List.of());
+        }
+
+        MulticastMessage.Builder messageBuilder = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(Notification.builder()
+                        .setTitle(request.getTitle())
+                        .setBody(request.getBody())
+                        .build());
+
+        if (request.getData() != null) {
+            messageBuilder.putAllData(request.getData());
+        }
+
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(messageBuilder.build());
+            return toResult(tokens, response);
+        } catch (FirebaseMessagingException e) {
+            log.error("Failed to send FCM multicast to {} tokens", tokens.size(), e);
+            return PushSendResult.allRetryable(tokens);
+        }
+    }
+
+    private PushSendResult toResult(List<String> tokens, BatchResponse response) {
+        List<String> unregisteredTokens = new ArrayList<>();
+        List<String> retryableTokens = new ArrayList<>();
+
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful()) {
+                continue;
+            }
+
+            MessagingErrorCode errorCode = sendResponse.getException().getMessagingErrorCode();
+            if (errorCode == MessagingErrorCode.UNREGISTERED) {
+                unregisteredTokens.add(tokens.get(i));
+            } else if (RETRYABLE_ERRORS.contains(errorCode)) {
+                retryableTokens.add(tokens.get(i));
+            } else {
+                log.warn("FCM rejected token - code: {}, message: {}", errorCode, sendResponse.getException().getMessage());
+            }
+        }
+
+        return new PushSendResult(response.getSuccessCount(), unregisteredTokens, retryableTokens);
+    }
+}
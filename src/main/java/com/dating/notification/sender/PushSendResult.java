@@ -0,0 +1,14 @@
+package com.dating.notification.sender;
+
+import java.util.List;
+
+public record PushSendResult(
+        int successCount,
+        List<String> unregisteredTokens,
+        List<String> retryableTokens
+) {
+
+    public static PushSendResult allRetryable(List<String> tokens) {
+        return new PushSendResult(0, List.of(), tokens);
+    }
+}
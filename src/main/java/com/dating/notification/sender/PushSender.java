@@ -0,0 +1,13 @@
+package com.dating.notification.sender;
+
+import com.dating.notification.dto.NotificationRequest;
+
+import java.util.List;
+
+public interface PushSender {
+
+    int MAX_TOKENS_PER_REQUEST = 500;
+
+    // tokens 는 최대 MAX_TOKENS_PER_REQUEST 개
+    PushSendResult send(List<String> tokens, NotificationRequest request);
+}
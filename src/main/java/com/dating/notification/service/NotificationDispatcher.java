@@ -0,0 +1,191 @@
+package com.dating.notification.service;
+
+import com.dating.notification.dto.NotificationRequest;
+import com.dating.notification.repository.FcmTokenRepository;
+import com.dating.notification.sender.PushSendResult;
+import com.dating.notification.sender.PushSender;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 알림 요청을 bounded queue 에 쌓고 worker 가 모아서 최대 500 토큰 단위 multicast 로 발송
+// 재시도도 backoff 뒤 같은 queue 로 돌려보내 worker 가 발송 (retry 스레드는 시점만 맞춤)
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final FcmTokenRepository fcmTokenRepository;
+    private final PushSender pushSender;
+    private final BlockingQueue<Pending> queue;
+    private final int workerCount;
+    private final int drainSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    public NotificationDispatcher(
+            FcmTokenRepository fcmTokenRepository,
+            PushSender pushSender,
+            @Value("${notification.dispatcher.queue-capacity:10000}") int queueCapacity,
+            @Value("${notification.dispatcher.workers:4}") int workerCount,
+            @Value("${notification.dispatcher.drain-size:1000}") int drainSize,
+            @Value("${notification.dispatcher.max-attempts:3}") int maxAttempts,
+            @Value("${notification.dispatcher.retry-backoff-ms:1000}") long retryBackoffMs
+    ) {
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.pushSender = pushSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.drainSize = drainSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        workers = Executors.newFixedThreadPool(workerCount, namedThreadFactory("notification-worker-"));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("notification-retry-"));
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::runWorker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public boolean enqueue(Long userId, NotificationRequest request) {
+        boolean accepted = queue.offer(new PendingNotification(userId, request));
+        if (!accepted) {
+            log.warn("Notification queue is full. Dropping notification for user: {}", userId);
+        }
+        return accepted;
+    }
+
+    private void runWorker() {
+        List<Pending> batch = new ArrayList<>(drainSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, drainSize - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to dispatch {} notifications", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 같은 내용의 알림은 사용자 단위가 아니라 토큰 단위로 합쳐서 발송
+    private void dispatch(List<Pending> batch) {
+        Map<NotificationRequest, Set<Long>> userIdsByRequest = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            if (pending instanceof PendingRetry retry) {
+                deliver(retry.tokens(), retry.request(), retry.attempt());
+            } else if (pending instanceof PendingNotification notification) {
+                userIdsByRequest.computeIfAbsent(notification.request(), request -> new LinkedHashSet<>())
+                        .add(notification.userId());
+            }
+        }
+
+        userIdsByRequest.forEach((request, userIds) -> {
+            List<String> tokens = fcmTokenRepository.findTokensByUserIdIn(userIds);
+            for (int from = 0; from < tokens.size(); from += PushSender.MAX_TOKENS_PER_REQUEST) {
+                int to = Math.min(from + PushSender.MAX_TOKENS_PER_REQUEST, tokens.size());
+                deliver(tokens.subList(from, to), request, 1);
+            }
+        });
+    }
+
+    private void deliver(List<String> tokens, NotificationRequest request, int attempt) {
+        PushSendResult result;
+        try {
+            result = pushSender.send(tokens, request);
+        } catch (Exception e) {
+            log.error("Push sender failed for {} tokens", tokens.size(), e);
+            result = PushSendResult.allRetryable(tokens);
+        }
+
+        if (!result.unregisteredTokens().isEmpty()) {
+            pruneTokens(result.unregisteredTokens());
+        }
+
+        List<String> retryableTokens = result.retryableTokens();
+        if (retryableTokens.isEmpty()) {
+            return;
+        }
+
+        if (attempt >= maxAttempts) {
+            log.warn("Giving up notification after {} attempts - tokens: {}", attempt, retryableTokens.size());
+            return;
+        }
+
+        long delayMs = retryBackoffMs * (1L << (attempt - 1));
+        PendingRetry retry = new PendingRetry(List.copyOf(retryableTokens), request, attempt + 1);
+        retryScheduler.schedule(() -> requeue(retry), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void requeue(PendingRetry retry) {
+        if (!queue.offer(retry)) {
+            log.warn("Notification queue is full. Dropping retry attempt {} for {} tokens",
+                    retry.attempt(), retry.tokens().size());
+        }
+    }
+
+    private void pruneTokens(List<String> tokens) {
+        try {
+            int deleted = fcmTokenRepository.deleteByTokenIn(tokens);
+            log.info("Pruned {} unregistered FCM tokens", deleted);
+        } catch (Exception e) {
+            log.warn("Failed to prune unregistered FCM tokens", e);
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private sealed interface Pending permits PendingNotification, PendingRetry {
+    }
+
+    private record PendingNotification(Long userId, NotificationRequest request) implements Pending {
+    }
+
+    // 이미 토큰을 조회해 한 번 이상 발송한 묶음 (최대 500 토큰)
+    private record PendingRetry(List<String> tokens, NotificationRequest request, int attempt) implements Pending {
+    }
+}
@@ -0,0 +1,229 @@
+package com.dating.profile.cache;
+
+import com.dating.common.datasource.PrimaryReader;
+import com.dating.profile.dto.ProfileResponse;
+import com.dating.profile.repository.ProfileQueryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 프로필 카드 (ProfileResponse) 캐시 (로컬 LRU + Redis 2차 캐시)
+// 여러 건은 로컬 -> Redis MGET -> DB IN 쿼리 순으로 빈 것만 채움, 수정 시 pub/sub 으로 모든 노드의 로컬 캐시를 비움
+// DB 를 읽는 사이 수정이 커밋되면 읽은 값이 오래된 것일 수 있으므로, 수정마다 올리는 버전이 DB 조회 전과 같을 때만 캐시에 기록
+@Slf4j
+@Component
+public class ProfileCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "profile:response:";
+    private static final String VERSION_PREFIX = "profile:version:";
+    private static final String EVICT_CHANNEL = "profile:evict";
+    // 버전 키는 값보다 오래 남아야 DB 조회 중 만료되어 0 으로 돌아가지 않음
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // KEYS 는 (값 키, 버전 키) 쌍, ARGV 는 TTL 뒤에 (DB 조회 전 버전, 값) 쌍, 기록한 항목은 1 아니면 0
+    // (Lua 배열은 List 로만 받을 수 있어 원소 타입은 한 번 캐스팅)
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Object>> WRITE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+            local written = {}
+            for i = 1, #KEYS, 2 do
+                local version = redis.call('GET', KEYS[i + 1]) or '0'
+                if version == ARGV[i + 1] then
+                    redis.call('SET', KEYS[i], ARGV[i + 2], 'EX', ARGV[1])
+                    written[#written + 1] = 1
+                else
+                    written[#written + 1] = 0
+                end
+            end
+            return written
+            """, (Class<List<Object>>) (Class<?>) List.class);
+
+    private final ProfileQueryRepository profileQueryRepository;
+    private final PrimaryReader primaryReader;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, ProfileResponse> localCache;
+
+    public ProfileCache(
+            ProfileQueryRepository profileQueryRepository,
+            PrimaryReader primaryReader,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${profile.cache.max-size:50000}") long maxSize,
+            @Value("${profile.cache.expire-after-write:5m}") Duration expireAfterWrite,
+            @Value("${profile.cache.redis-ttl:10m}") Duration redisTtl
+    ) {
+        this.profileQueryRepository = profileQueryRepository;
+        this.primaryReader = primaryReader;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public Optional<ProfileResponse> get(Long profileId) {
+        return Optional.ofNullable(getAll(List.of(profileId)).get(profileId));
+    }
+
+    // 없는 프로필은 결과에서 빠짐 (캐싱하지 않음)
+    public Map<Long, ProfileResponse> getAll(Collection<Long> profileIds) {
+        if (profileIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ProfileResponse> found = new HashMap<>(localCache.getAllPresent(profileIds));
+        Set<Long> missingIds = new HashSet<>(profileIds);
+        missingIds.removeAll(found.keySet());
+        if (!missingIds.isEmpty()) {
+            found.putAll(load(missingIds));
+        }
+        return found;
+    }
+
+    // 프로필 수정 시 호출, 커밋 이후 모든 노드에서 비움
+    public void evict(Long profileId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(profileId);
+                }
+            });
+        } else {
+            evictNow(profileId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    // Redis 에서 읽었거나 버전이 바뀌지 않은 채 Redis 에 기록한 항목만 로컬에 캐시
+    private Map<Long, ProfileResponse> load(Set<Long> profileIds) {
+        List<Long> ids = new ArrayList<>(profileIds);
+        Map<Long, ProfileResponse> loaded = new HashMap<>();
+
+        try {
+            List<String> cached = stringRedisTemplate.opsForValue().multiGet(ids.stream().map(id -> KEY_PREFIX + id).toList());
+            for (int i = 0; cached != null && i < ids.size(); i++) {
+                if (cached.get(i) != null) {
+                    loaded.put(ids.get(i), objectMapper.readValue(cached.get(i), ProfileResponse.class));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read profiles from redis - count: {}", ids.size(), e);
+        }
+        localCache.putAll(loaded);
+
+        List<Long> missingIds = ids.stream().filter(id -> !loaded.containsKey(id)).toList();
+        if (missingIds.isEmpty()) {
+            return loaded;
+        }
+
+        List<String> versions = readVersions(missingIds);
+        List<ProfileResponse> profiles = primaryReader.read(() -> profileQueryRepository.findResponsesByIds(missingIds));
+        profiles.forEach(profile -> loaded.put(profile.getId(), profile));
+        if (versions != null) {
+            writeShared(profiles, missingIds, versions);
+        }
+        return loaded;
+    }
+
+    // Redis 를 읽지 못하면 null, 이번 조회 결과는 캐시하지 않음
+    private List<String> readVersions(List<Long> ids) {
+        try {
+            List<String> versions = stringRedisTemplate.opsForValue().multiGet(ids.stream().map(id -> VERSION_PREFIX + id).toList());
+            return versions == null ? null : versions.stream().map(version -> version == null ? "0" : version).toList();
+        } catch (Exception e) {
+            log.warn("Failed to read profile versions from redis - count: {}", ids.size(), e);
+            return null;
+        }
+    }
+
+    private void writeShared(List<ProfileResponse> profiles, List<Long> ids, List<String> versions) {
+        if (profiles.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(profiles.size() * 2);
+        List<String> args = new ArrayList<>(profiles.size() * 2 + 1);
+        args.add(String.valueOf(redisTtl.toSeconds()));
+        try {
+            for (ProfileResponse profile : profiles) {
+                keys.add(KEY_PREFIX + profile.getId());
+                keys.add(VERSION_PREFIX + profile.getId());
+                args.add(versions.get(ids.indexOf(profile.getId())));
+                args.add(objectMapper.writeValueAsString(profile));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize profile response", e);
+        }
+
+        try {
+            List<Object> written = stringRedisTemplate.execute(WRITE_IF_UNCHANGED_SCRIPT, keys, args.toArray());
+            for (int i = 0; written != null && i < profiles.size(); i++) {
+                if ("1".equals(String.valueOf(written.get(i)))) {
+                    localCache.put(profiles.get(i).getId(), profiles.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to write profiles to redis - count: {}", profiles.size(), e);
+        }
+    }
+
+    // 버전을 올리고 Redis 2차 캐시를 지운 뒤 다른 노드의 로컬 캐시도 비우도록 전파
+    private void evictNow(Long profileId) {
+        localCache.invalidate(profileId);
+        try {
+            // 버전을 먼저 올려야 이미 DB 를 읽은 조회가 값을 지운 뒤에 다시 기록하지 못함
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.incr(VERSION_PREFIX + profileId);
+                redis.expire(VERSION_PREFIX + profileId, VERSION_TTL.toSeconds());
+                redis.del(KEY_PREFIX + profileId);
+                return null;
+            });
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(profileId));
+        } catch (Exception e) {
+            log.warn("Failed to evict profile - profileId: {}", profileId, e);
+        }
+    }
+}
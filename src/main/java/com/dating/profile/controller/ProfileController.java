@@ -13,6 +13,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/profiles")
 @RequiredArgsConstructor
@@ -33,8 +35,15 @@ public class ProfileController {
     @GetMapping("/me")
     @Operation(summary = "내 프로필 조회", description = "현재 로그인한 사용자의 프로필을 조회합니다.")
     public ApiResponse<ProfileResponse> getMyProfile() {
-        Long userId = SecurityUtil.getCurrentUserId();
-        ProfileResponse response = profileService.getMyProfile(userId);
+        Long profileId = SecurityUtil.getCurrentProfileId();
+        ProfileResponse response = profileService.getMyProfile(profileId);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping
+    @Operation(summary = "프로필 여러 건 조회", description = "프로필 id 목록(최대 100개)으로 프로필을 한 번에 조회합니다. 없는 프로필은 결과에서 제외됩니다.")
+    public ApiResponse<List<ProfileResponse>> getProfiles(@RequestParam List<Long> ids) {
+        List<ProfileResponse> response = profileService.getProfiles(ids);
         return ApiResponse.success(response);
     }
 
@@ -47,9 +56,9 @@ public class ProfileController {
 
     @PatchMapping("/me")
     @Operation(summary = "프로필 수정", description = "내 프로필 정보를 수정합니다.")
-    public ApiResponse<ProfileResponse> updateProfile(@RequestBody UpdateProfileRequest request) {
-        Long userId = SecurityUtil.getCurrentUserId();
-        ProfileResponse response = profileService.updateProfile(userId, request);
+    public ApiResponse<ProfileResponse> updateProfile(@Valid @RequestBody UpdateProfileRequest request) {
+        Long profileId = SecurityUtil.getCurrentProfileId();
+        ProfileResponse response = profileService.updateProfile(profileId, request);
         return ApiResponse.success(response);
     }
 }
@@ -16,7 +16,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "profiles")
+@Table(name = "profiles", indexes = {
+        @Index(name = "idx_profile_birth_date", columnList = "birth_date"),
+        @Index(name = "idx_profile_latitude", columnList = "latitude")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -46,6 +49,10 @@ public class Profile {
     @Column(length = 100)
     private String location;
 
+    private Double latitude;
+
+    private Double longitude;
+
     @ElementCollection
     @CollectionTable(name = "profile_images", joinColumns = @JoinColumn(name = "profile_id"))
     @Column(name = "image_url", length = 500)
@@ -95,6 +102,15 @@ public class Profile {
         if (maxDistance != null) this.maxDistance = maxDistance;
     }
 
+    public void updateCoordinates(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
     public void updateImages(List<String> imageUrls) {
         this.imageUrls.clear();
         this.imageUrls.addAll(imageUrls);
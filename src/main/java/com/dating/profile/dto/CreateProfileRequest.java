@@ -1,6 +1,8 @@
 package com.dating.profile.dto;
 
 import com.dating.profile.domain.Profile;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
@@ -28,4 +30,12 @@ public class CreateProfileRequest {
     private String bio;
 
     private String location;
+
+    @DecimalMin(value = "-85.05112878", message = "Latitude must be between -85.05112878 and 85.05112878")
+    @DecimalMax(value = "85.05112878", message = "Latitude must be between -85.05112878 and 85.05112878")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
 }
@@ -0,0 +1,13 @@
+package com.dating.profile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// GEO 인덱스 재구축용 (id, 좌표) 프로젝션
+@Getter
+@AllArgsConstructor
+public class ProfileCoordinates {
+    private Long profileId;
+    private Double latitude;
+    private Double longitude;
+}
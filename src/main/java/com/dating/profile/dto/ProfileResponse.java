@@ -19,6 +19,8 @@ public class ProfileResponse {
     private Profile.Gender gender;
     private String bio;
     private String location;
+    private Double latitude;
+    private Double longitude;
     private List<String> imageUrls;
     private List<String> interests;
     private Integer minAgePreference;
@@ -34,6 +36,8 @@ public class ProfileResponse {
                 profile.getGender(),
                 profile.getBio(),
                 profile.getLocation(),
+                profile.getLatitude(),
+                profile.getLongitude(),
                 profile.getImageUrls(),
                 profile.getInterests(),
                 profile.getMinAgePreference(),
@@ -1,5 +1,7 @@
 package com.dating.profile.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,6 +15,16 @@ public class UpdateProfileRequest {
     private String nickname;
     private String bio;
     private String location;
+
+    // Redis GEO 가 인덱싱할 수 있는 위도 범위 (±85.05112878)
+    @DecimalMin(value = "-85.05112878", message = "Latitude must be between -85.05112878 and 85.05112878")
+    @DecimalMax(value = "85.05112878", message = "Latitude must be between -85.05112878 and 85.05112878")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     private Integer minAgePreference;
     private Integer maxAgePreference;
     private Integer maxDistance;
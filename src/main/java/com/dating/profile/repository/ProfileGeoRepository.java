@@ -0,0 +1,105 @@
+package com.dating.profile.repository;
+
+import com.dating.profile.domain.Profile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoSearchCommandArgs;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+// 프로필 좌표를 Redis GEO 로 인덱싱해 반경 검색을 DB 스캔 없이 처리
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProfileGeoRepository {
+
+    private static final String GEO_KEY = "profiles:geo";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 롤백된 좌표가 인덱스에 남지 않도록 커밋 후에 반영
+    public void save(Profile profile) {
+        Long profileId = profile.getId();
+        Double latitude = profile.getLatitude();
+        Double longitude = profile.getLongitude();
+        afterCommit(() -> {
+            if (latitude == null || longitude == null) {
+                removeNow(profileId);
+                return;
+            }
+            stringRedisTemplate.opsForGeo().add(GEO_KEY, new Point(longitude, latitude), String.valueOf(profileId));
+        });
+    }
+
+    public void remove(Long profileId) {
+        afterCommit(() -> removeNow(profileId));
+    }
+
+    public boolean exists() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(GEO_KEY));
+    }
+
+    // 인덱스 재구축용 일괄 추가 (key: 프로필 id)
+    public void addAll(Map<Long, Point> locations) {
+        if (locations.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForGeo().add(GEO_KEY, locations.entrySet().stream()
+                .map(entry -> new GeoLocation<>(String.valueOf(entry.getKey()), entry.getValue()))
+                .toList());
+    }
+
+    // 반경 안의 프로필 id 최대 limit 개 (순서 없음)
+    // 호출하는 쪽은 id 순으로 다시 정렬하므로 거리 정렬 없이 ANY 로 limit 개를 찾는 즉시 검색을 멈춤
+    public List<Long> findIdsWithin(double latitude, double longitude, double radiusKm, int limit) {
+        GeoResults<GeoLocation<String>> results = stringRedisTemplate.opsForGeo().search(
+                GEO_KEY,
+                GeoReference.fromCoordinate(new Point(longitude, latitude)),
+                new Distance(radiusKm, Metrics.KILOMETERS),
+                GeoSearchCommandArgs.newGeoSearchArgs().limit(limit, true));
+
+        if (results == null) {
+            return List.of();
+        }
+        return results.getContent().stream()
+                .map(result -> Long.valueOf(result.getContent().getName()))
+                .toList();
+    }
+
+    private void removeNow(Long profileId) {
+        stringRedisTemplate.opsForGeo().remove(GEO_KEY, String.valueOf(profileId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runQuietly(action);
+                }
+            });
+        } else {
+            runQuietly(action);
+        }
+    }
+
+    // 커밋은 이미 끝났으므로 Redis 실패로 요청을 실패시키지 않음 (누락분은 재구축으로 복구)
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("Failed to update profile GEO index", e);
+        }
+    }
+}
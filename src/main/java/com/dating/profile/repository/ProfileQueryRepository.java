@@ -0,0 +1,100 @@
+package com.dating.profile.repository;
+
+import com.dating.profile.dto.ProfileResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.dating.profile.domain.QProfile.profile;
+
+@Repository
+@RequiredArgsConstructor
+public class ProfileQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 목록 크기와 무관하게 프로필 / 이미지 / 관심사 3개의 쿼리로 조회 (결과는 ids 순서)
+    public List<ProfileResponse> findResponsesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(profile.id, profile.user.id, profile.nickname, profile.birthDate, profile.gender,
+                        profile.bio, profile.location, profile.latitude, profile.longitude,
+                        profile.minAgePreference, profile.maxAgePreference, profile.maxDistance)
+                .from(profile)
+                .where(profile.id.in(ids))
+                .fetch();
+
+        Map<Long, List<String>> imageUrls = findImageUrls(ids);
+        Map<Long, List<String>> interests = findInterests(ids);
+
+        Map<Long, ProfileResponse> responses = new HashMap<>();
+        for (Tuple row : rows) {
+            Long id = row.get(profile.id);
+            responses.put(id, new ProfileResponse(
+                    id,
+                    row.get(profile.user.id),
+                    row.get(profile.nickname),
+                    row.get(profile.birthDate),
+                    row.get(profile.gender),
+                    row.get(profile.bio),
+                    row.get(profile.location),
+                    row.get(profile.latitude),
+                    row.get(profile.longitude),
+                    imageUrls.getOrDefault(id, new ArrayList<>()),
+                    interests.getOrDefault(id, new ArrayList<>()),
+                    row.get(profile.minAgePreference),
+                    row.get(profile.maxAgePreference),
+                    row.get(profile.maxDistance)
+            ));
+        }
+
+        return ids.stream()
+                .map(responses::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, List<String>> findImageUrls(Collection<Long> ids) {
+        StringPath imageUrl = Expressions.stringPath("imageUrl");
+        List<Tuple> rows = queryFactory
+                .select(profile.id, imageUrl)
+                .from(profile)
+                .join(profile.imageUrls, imageUrl)
+                .where(profile.id.in(ids))
+                .orderBy(profile.id.asc(), Expressions.numberTemplate(Integer.class, "index({0})", imageUrl).asc())
+                .fetch();
+        return groupByProfileId(rows, imageUrl);
+    }
+
+    private Map<Long, List<String>> findInterests(Collection<Long> ids) {
+        StringPath interest = Expressions.stringPath("interest");
+        List<Tuple> rows = queryFactory
+                .select(profile.id, interest)
+                .from(profile)
+                .join(profile.interests, interest)
+                .where(profile.id.in(ids))
+                .fetch();
+        return groupByProfileId(rows, interest);
+    }
+
+    private Map<Long, List<String>> groupByProfileId(List<Tuple> rows, StringPath value) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (Tuple row : rows) {
+            grouped.computeIfAbsent(row.get(profile.id), id -> new ArrayList<>()).add(row.get(value));
+        }
+        return grouped;
+    }
+}
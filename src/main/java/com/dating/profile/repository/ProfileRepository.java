@@ -1,13 +1,30 @@
 package com.dating.profile.repository;
 
 import com.dating.profile.domain.Profile;
+import com.dating.profile.dto.ProfileCoordinates;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     Optional<Profile> findByUserId(Long userId);
     boolean existsByUserId(Long userId);
+
+    @Query("SELECT p.id FROM Profile p WHERE p.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT p.user.id FROM Profile p WHERE p.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    @Query("SELECT new com.dating.profile.dto.ProfileCoordinates(p.id, p.latitude, p.longitude) " +
+           "FROM Profile p " +
+           "WHERE p.id > :afterId AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL " +
+           "ORDER BY p.id")
+    List<ProfileCoordinates> findCoordinatesAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
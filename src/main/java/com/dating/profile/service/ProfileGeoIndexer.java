@@ -0,0 +1,75 @@
+package com.dating.profile.service;
+
+import com.dating.profile.dto.ProfileCoordinates;
+import com.dating.profile.repository.ProfileGeoRepository;
+import com.dating.profile.repository.ProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Redis 가 비워졌거나 새로 뜬 경우 profiles 의 좌표로 GEO 인덱스를 다시 채움
+@Slf4j
+@Component
+public class ProfileGeoIndexer {
+
+    // Redis GEO 가 받는 위도 범위, 이전에 ±90 으로 저장된 좌표는 건너뜀
+    private static final double MAX_GEO_LATITUDE = 85.05112878;
+
+    private final ProfileRepository profileRepository;
+    private final ProfileGeoRepository profileGeoRepository;
+    private final int batchSize;
+
+    public ProfileGeoIndexer(
+            ProfileRepository profileRepository,
+            ProfileGeoRepository profileGeoRepository,
+            @Value("${match.geo.rebuild-batch-size:1000}") int batchSize
+    ) {
+        this.profileRepository = profileRepository;
+        this.profileGeoRepository = profileGeoRepository;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            if (!profileGeoRepository.exists()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Failed to rebuild profile GEO index", e);
+        }
+    }
+
+    // id 순 keyset 페이징으로 좌표가 있는 프로필을 모두 GEOADD (이미 있는 항목은 덮어씀)
+    public int rebuild() {
+        long lastId = 0L;
+        int indexed = 0;
+        List<ProfileCoordinates> page;
+        do {
+            page = profileRepository.findCoordinatesAfter(lastId, PageRequest.ofSize(batchSize));
+            Map<Long, Point> locations = new LinkedHashMap<>();
+            for (ProfileCoordinates coordinates : page) {
+                if (Math.abs(coordinates.getLatitude()) <= MAX_GEO_LATITUDE) {
+                    locations.put(coordinates.getProfileId(),
+                            new Point(coordinates.getLongitude(), coordinates.getLatitude()));
+                }
+            }
+            profileGeoRepository.addAll(locations);
+            indexed += locations.size();
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).getProfileId();
+            }
+        } while (page.size() == batchSize);
+
+        log.info("Rebuilt profile GEO index with {} profiles", indexed);
+        return indexed;
+    }
+}
@@ -2,10 +2,13 @@ package com.dating.profile.service;
 
 import com.dating.common.exception.BusinessException;
 import com.dating.common.exception.ErrorCode;
+import com.dating.match.service.CandidateQueueService;
+import com.dating.profile.cache.ProfileCache;
 import com.dating.profile.domain.Profile;
 import com.dating.profile.dto.CreateProfileRequest;
 import com.dating.profile.dto.ProfileResponse;
 import com.dating.profile.dto.UpdateProfileRequest;
+import com.dating.profile.repository.ProfileGeoRepository;
 import com.dating.profile.repository.ProfileRepository;
 import com.dating.user.domain.User;
 import com.dating.user.repository.UserRepository;
@@ -13,13 +16,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProfileService {
 
     private final ProfileRepository profileRepository;
+    private final ProfileGeoRepository profileGeoRepository;
     private final UserRepository userRepository;
+    private final CandidateQueueService candidateQueueService;
+    private final ProfileCache profileCache;
+
+    private static final int MAX_BATCH_SIZE = 100;
 
     @Transactional
     public ProfileResponse createProfile(Long userId, CreateProfileRequest request) {
@@ -38,28 +50,43 @@ public class ProfileService {
                 .bio(request.getBio())
                 .location(request.getLocation())
                 .build();
+        profile.updateCoordinates(request.getLatitude(), request.getLongitude());
 
         Profile savedProfile = profileRepository.save(profile);
+        profileGeoRepository.save(savedProfile);
         return ProfileResponse.from(savedProfile);
     }
 
-    public ProfileResponse getMyProfile(Long userId) {
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
-        return ProfileResponse.from(profile);
+    public ProfileResponse getMyProfile(Long profileId) {
+        return getProfile(profileId);
     }
 
     public ProfileResponse getProfile(Long profileId) {
-        Profile profile = profileRepository.findById(profileId)
+        return profileCache.get(profileId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
-        return ProfileResponse.from(profile);
+    }
+
+    // 요청 순서대로 반환, 없는 프로필은 빠짐
+    public List<ProfileResponse> getProfiles(List<Long> profileIds) {
+        if (profileIds.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Too many profile ids");
+        }
+
+        Map<Long, ProfileResponse> profiles = profileCache.getAll(profileIds);
+        return profileIds.stream()
+                .distinct()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Transactional
-    public ProfileResponse updateProfile(Long userId, UpdateProfileRequest request) {
-        Profile profile = profileRepository.findByUserId(userId)
+    public ProfileResponse updateProfile(Long profileId, UpdateProfileRequest request) {
+        Profile profile = profileRepository.findById(profileId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
 
+        boolean preferencesChanged = isPreferenceChanged(profile, request);
+
         profile.updateProfile(
                 request.getNickname(),
                 request.getBio(),
@@ -77,6 +104,28 @@ public class ProfileService {
             profile.updateInterests(request.getInterests());
         }
 
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            profile.updateCoordinates(request.getLatitude(), request.getLongitude());
+            profileGeoRepository.save(profile);
+        }
+
+        if (preferencesChanged) {
+            candidateQueueService.invalidate(profile.getId());
+        }
+        profileCache.evict(profile.getId());
+
         return ProfileResponse.from(profile);
     }
+
+    private boolean isPreferenceChanged(Profile profile, UpdateProfileRequest request) {
+        return isChanged(profile.getMinAgePreference(), request.getMinAgePreference()) ||
+               isChanged(profile.getMaxAgePreference(), request.getMaxAgePreference()) ||
+               isChanged(profile.getMaxDistance(), request.getMaxDistance()) ||
+               isChanged(profile.getLatitude(), request.getLatitude()) ||
+               isChanged(profile.getLongitude(), request.getLongitude());
+    }
+
+    private boolean isChanged(Object current, Object requested) {
+        return requested != null && !requested.equals(current);
+    }
 }
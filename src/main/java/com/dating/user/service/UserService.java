@@ -1,5 +1,6 @@
 package com.dating.user.service;
 
+import com.dating.chat.cache.ChatMembershipCache;
 import com.dating.common.exception.BusinessException;
 import com.dating.common.exception.ErrorCode;
 import com.dating.user.domain.User;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ChatMembershipCache chatMembershipCache;
 
     public User findById(Long id) {
         return userRepository.findById(id)
@@ -28,4 +30,11 @@ public class UserService {
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
+
+    @Transactional
+    public void updateStatus(Long id, User.UserStatus status) {
+        User user = findById(id);
+        user.updateStatus(status);
+        chatMembershipCache.evictMember(id);
+    }
 }
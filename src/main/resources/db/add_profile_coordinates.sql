@@ -0,0 +1,15 @@
+-- 위치 기반 후보 조회에 쓰는 profiles 좌표 컬럼과 인덱스 추가 (prod 는 ddl-auto: validate)
+-- 좌표가 비어 있는 프로필은 위치 필터 없이 조회되고, 앱이 좌표를 받으면 채워짐
+-- 여러 번 실행해도 없는 컬럼 / 인덱스만 추가
+--
+-- psql -v ON_ERROR_STOP=1 -d dating -f src/main/resources/db/add_profile_coordinates.sql
+
+BEGIN;
+
+ALTER TABLE profiles ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE profiles ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+
+CREATE INDEX IF NOT EXISTS idx_profile_latitude ON profiles (latitude);
+CREATE INDEX IF NOT EXISTS idx_profile_birth_date ON profiles (birth_date);
+
+COMMIT;
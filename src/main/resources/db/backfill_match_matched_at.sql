@@ -0,0 +1,31 @@
+-- matches.matched_at 컬럼과 매칭 목록 인덱스를 추가하고 (prod 는 ddl-auto: validate)
+-- 컬럼 추가 이전에 성사된 매칭의 matched_at 을 채움 (매칭 목록은 matched_at 으로 정렬 / 페이지네이션)
+-- 여러 번 실행해도 없는 컬럼 / 인덱스만 추가하고 matched_at 이 비어 있는 행만 갱신
+--
+-- psql -v ON_ERROR_STOP=1 -d dating -f src/main/resources/db/backfill_match_matched_at.sql
+
+BEGIN;
+
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS matched_at TIMESTAMP(6);
+
+CREATE INDEX IF NOT EXISTS idx_match_from_matched ON matches (from_profile_id, matched_at, id);
+CREATE INDEX IF NOT EXISTS idx_match_to_profile ON matches (to_profile_id);
+-- 매칭 목록이 한 쿼리로 바뀌면서 쓰이지 않는 인덱스
+DROP INDEX IF EXISTS idx_match_to_pending;
+
+-- 매칭은 나중에 누른 좋아요 시점에 성사되므로 두 행 모두 두 좋아요 중 늦은 시각으로
+UPDATE matches m
+SET matched_at = GREATEST(m.created_at, r.created_at)
+FROM matches r
+WHERE m.is_matched
+  AND m.matched_at IS NULL
+  AND r.from_profile_id = m.to_profile_id
+  AND r.to_profile_id = m.from_profile_id;
+
+-- 상대 행이 없는 경우(삭제된 프로필 등)는 자기 행의 시각으로
+UPDATE matches
+SET matched_at = created_at
+WHERE is_matched
+  AND matched_at IS NULL;
+
+COMMIT;
@@ -0,0 +1,21 @@
+-- 오래된 월 파티션을 옮겨 두는 chat_message_archives 테이블 추가 (prod 는 ddl-auto: validate)
+-- 메시지 히스토리 API 가 파티셔닝 여부와 관계없이 보관 테이블을 이어서 조회하므로 partition_chat_messages.sql 보다 먼저 실행
+-- 여러 번 실행해도 없는 테이블 / 인덱스만 생성
+--
+-- psql -v ON_ERROR_STOP=1 -d dating -f src/main/resources/db/create_chat_message_archives.sql
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS chat_message_archives (
+    id               BIGSERIAL PRIMARY KEY,
+    chat_room_id     BIGINT       NOT NULL,
+    first_message_id BIGINT       NOT NULL,
+    last_message_id  BIGINT       NOT NULL,
+    message_count    INTEGER      NOT NULL,
+    payload          BYTEA        NOT NULL,
+    archived_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_chat_archive_room_first ON chat_message_archives (chat_room_id, first_message_id);
+
+COMMIT;
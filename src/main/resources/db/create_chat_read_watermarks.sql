@@ -0,0 +1,32 @@
+-- 채팅방별 읽음 위치를 저장하는 chat_read_watermarks 테이블과 안 읽은 메시지 수 인덱스 추가 (prod 는 ddl-auto: validate)
+-- 워터마크가 없으면 방의 모든 상대 메시지가 안 읽음으로 세어지므로, 기존 is_read 로 읽음 위치를 한 번 채움
+-- 여러 번 실행해도 없는 테이블 / 인덱스만 만들고 이미 있는 워터마크는 건드리지 않음
+--
+-- psql -v ON_ERROR_STOP=1 -d dating -f src/main/resources/db/create_chat_read_watermarks.sql
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS chat_read_watermarks (
+    id                   BIGSERIAL PRIMARY KEY,
+    chat_room_id         BIGINT       NOT NULL,
+    profile_id           BIGINT       NOT NULL,
+    last_read_message_id BIGINT       NOT NULL,
+    updated_at           TIMESTAMP(6) NOT NULL,
+    UNIQUE (chat_room_id, profile_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_chat_room_id ON chat_messages (chat_room_id, id);
+
+-- 참여자별로 읽음 처리된 상대 메시지 중 가장 최근 id 를 읽음 위치로
+INSERT INTO chat_read_watermarks (chat_room_id, profile_id, last_read_message_id, updated_at)
+SELECT cr.id, p.profile_id, MAX(cm.id), LOCALTIMESTAMP
+FROM chat_rooms cr
+JOIN matches m ON m.id = cr.match_id
+CROSS JOIN LATERAL (VALUES (m.from_profile_id), (m.to_profile_id)) p (profile_id)
+JOIN chat_messages cm ON cm.chat_room_id = cr.id
+                     AND cm.sender_profile_id <> p.profile_id
+                     AND cm.is_read
+GROUP BY cr.id, p.profile_id
+ON CONFLICT (chat_room_id, profile_id) DO NOTHING;
+
+COMMIT;
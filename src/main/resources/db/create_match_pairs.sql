@@ -0,0 +1,18 @@
+-- 좋아요 매칭 판정에 쓰는 match_pairs 테이블 추가 (prod 는 ddl-auto: validate)
+-- 쌍이 처음 만들어질 때 이전에 저장된 상대의 좋아요를 matches 에서 반영하므로 기존 데이터 backfill 은 필요 없음
+-- 여러 번 실행해도 없는 테이블만 생성
+--
+-- psql -v ON_ERROR_STOP=1 -d dating -f src/main/resources/db/create_match_pairs.sql
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS match_pairs (
+    id              BIGSERIAL PRIMARY KEY,
+    low_profile_id  BIGINT  NOT NULL,
+    high_profile_id BIGINT  NOT NULL,
+    low_liked       BOOLEAN NOT NULL,
+    high_liked      BOOLEAN NOT NULL,
+    UNIQUE (low_profile_id, high_profile_id)
+);
+
+COMMIT;
@@ -0,0 +1,47 @@
+-- chat_messages 를 created_at 기준 월별 RANGE 파티션 테이블로 전환 (한 번만 실행, 점검 시간에 실행)
+-- 이후 월 파티션 생성과 보관은 chat.partitioning.enabled=true 일 때 ChatMessagePartitionManager 가 처리
+--
+-- psql -v ON_ERROR_STOP=1 -d dating -f src/main/resources/db/partition_chat_messages.sql
+
+BEGIN;
+
+ALTER TABLE chat_messages RENAME TO chat_messages_legacy;
+ALTER INDEX IF EXISTS idx_chat_room_created RENAME TO idx_chat_room_created_legacy;
+ALTER INDEX IF EXISTS idx_chat_room_id RENAME TO idx_chat_room_id_legacy;
+ALTER TABLE chat_messages_legacy RENAME CONSTRAINT chat_messages_pkey TO chat_messages_legacy_pkey;
+
+-- 파티션 테이블의 PK 에는 파티션 키가 포함되어야 함 (id 는 Snowflake 로 전역 유일)
+CREATE TABLE chat_messages (
+    LIKE chat_messages_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER TABLE chat_messages
+    ADD FOREIGN KEY (chat_room_id) REFERENCES chat_rooms (id),
+    ADD FOREIGN KEY (sender_profile_id) REFERENCES profiles (id);
+
+CREATE INDEX idx_chat_room_created ON chat_messages (chat_room_id, created_at);
+CREATE INDEX idx_chat_room_id ON chat_messages (chat_room_id, id);
+
+-- 미리 만들어 두지 않은 월의 메시지가 INSERT 실패하지 않도록 받아 두는 파티션
+CREATE TABLE chat_messages_default PARTITION OF chat_messages DEFAULT;
+
+DO $$
+DECLARE
+    month DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM chat_messages_legacy), now()));
+BEGIN
+    WHILE month <= date_trunc('month', now()) + INTERVAL '3 months' LOOP
+        EXECUTE format('CREATE TABLE chat_messages_p%s PARTITION OF chat_messages FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month, 'YYYYMM'), month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO chat_messages SELECT * FROM chat_messages_legacy;
+
+COMMIT;
+
+ANALYZE chat_messages;
+
+-- 확인 후 삭제
+-- DROP TABLE chat_messages_legacy;
@@ -0,0 +1,113 @@
+package com.dating.chat.cache;
+
+import com.dating.common.security.AuthUser;
+import com.dating.support.IntegrationTest;
+import com.dating.support.SqlStatementCounter;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import com.dating.user.domain.User;
+import com.dating.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractMessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ChatMembershipCacheTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private MessageChannel clientOutboundChannel;
+
+    // 멤버십과 최근 메시지가 캐시된 뒤에는 권한 확인을 포함해 SQL 없이 응답
+    @Test
+    void warmAuthorizationIssuesNoStatements() throws Exception {
+        Member me = fixtures.signup();
+        Long roomId = fixtures.chatRoomBetween(me, fixtures.signup());
+        mockMvc.perform(history(roomId, me)).andExpect(status().isOk());
+
+        statementCounter.reset();
+        mockMvc.perform(history(roomId, me)).andExpect(status().isOk());
+
+        assertThat(statementCounter.count()).isZero();
+    }
+
+    @Test
+    void statusChangeRevokesChatAccessAndStompSessions() throws Exception {
+        Member me = fixtures.signup();
+        Long roomId = fixtures.chatRoomBetween(me, fixtures.signup());
+        mockMvc.perform(history(roomId, me)).andExpect(status().isOk());
+
+        String sessionId = UUID.randomUUID().toString();
+        connectStompSession(me, sessionId);
+        List<Message<?>> outbound = new CopyOnWriteArrayList<>();
+        ChannelInterceptor capture = new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                outbound.add(message);
+                return message;
+            }
+        };
+        ((AbstractMessageChannel) clientOutboundChannel).addInterceptor(capture);
+        try {
+            userService.updateStatus(me.userId(), User.UserStatus.SUSPENDED);
+
+            mockMvc.perform(history(roomId, me)).andExpect(status().isForbidden());
+            await().atMost(Duration.ofSeconds(5)).until(() -> outbound.stream()
+                    .map(StompHeaderAccessor::wrap)
+                    .anyMatch(accessor -> accessor.getCommand() == StompCommand.ERROR
+                            && sessionId.equals(accessor.getSessionId())));
+        } finally {
+            ((AbstractMessageChannel) clientOutboundChannel).removeInterceptor(capture);
+        }
+    }
+
+    // 실제 WebSocket 없이 CONNECTED 이벤트만 발행해 SimpUserRegistry 에 세션을 등록
+    private void connectStompSession(Member member, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECTED);
+        accessor.setSessionId(sessionId);
+        AuthUser user = new AuthUser(member.userId(), member.profileId());
+        accessor.setUser(user);
+        applicationEventPublisher.publishEvent(new SessionConnectedEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), user));
+    }
+
+    private static MockHttpServletRequestBuilder history(Long roomId, Member member) {
+        return get("/api/v1/chat/rooms/{roomId}/messages/history", roomId)
+                .header("Authorization", member.bearer());
+    }
+}
@@ -0,0 +1,142 @@
+package com.dating.chat.cache;
+
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.dto.ChatMessageRequest;
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.repository.ChatReadWatermarkRepository;
+import com.dating.chat.repository.ChatReadWatermarkRepository.Watermark;
+import com.dating.chat.service.ChatService;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// 읽음 워터마크는 요청 순서 / 동시성 / flush / 재적재와 관계없이 앞으로만 이동
+class ReadWatermarkStoreTest extends IntegrationTest {
+
+    private static final long PROFILE_ID = 1L;
+
+    @Autowired
+    private ReadWatermarkStore readWatermarkStore;
+
+    @Autowired
+    private ChatReadWatermarkRepository chatReadWatermarkRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Test
+    void watermarkNeverMovesBackward() {
+        Long roomId = newRoomId();
+
+        assertThat(readWatermarkStore.advance(roomId, PROFILE_ID, 999L)).isTrue();
+        // 자릿수가 다르면 문자열 비교만으로는 "1000" < "999"
+        assertThat(readWatermarkStore.advance(roomId, PROFILE_ID, 1000L)).isTrue();
+        assertThat(readWatermarkStore.advance(roomId, PROFILE_ID, 999L)).isFalse();
+        assertThat(readWatermarkStore.advance(roomId, PROFILE_ID, 1000L)).isFalse();
+        assertThat(readWatermarkStore.getWatermarks(roomId)).containsEntry(PROFILE_ID, 1000L);
+    }
+
+    // 2^53 을 넘는 Snowflake id 는 double 로 바꾸면 구분되지 않음
+    @Test
+    void comparesIdsBeyondDoublePrecision() {
+        Long roomId = newRoomId();
+        long id = (1L << 53) + 1;
+
+        assertThat(readWatermarkStore.advance(roomId, PROFILE_ID, id - 1)).isTrue();
+        assertThat(readWatermarkStore.advance(roomId, PROFILE_ID, id)).isTrue();
+        assertThat(readWatermarkStore.advance(roomId, PROFILE_ID, id - 1)).isFalse();
+        assertThat(readWatermarkStore.getWatermarks(roomId)).containsEntry(PROFILE_ID, id);
+    }
+
+    @Test
+    void concurrentAdvancesKeepMaximum() throws Exception {
+        Long roomId = newRoomId();
+        long base = 7_000_000_000_000_000_000L;
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, 200).map(i -> base + i).boxed().toList());
+        Collections.shuffle(ids);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<CompletableFuture<Boolean>> results = ids.stream()
+                    .map(id -> CompletableFuture.supplyAsync(
+                            () -> readWatermarkStore.advance(roomId, PROFILE_ID, id), executor))
+                    .toList();
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(readWatermarkStore.getWatermarks(roomId)).containsEntry(PROFILE_ID, base + 200);
+        awaitFlushed(roomId, base + 200);
+    }
+
+    // 늦게 도착한 flush 가 DB 값을 되돌리지 않고, Redis 가 만료된 뒤 DB 에서 다시 적재해도 되돌아가지 않음
+    @Test
+    void flushedWatermarkSurvivesStaleWritesAndReload() {
+        Long roomId = newRoomId();
+        readWatermarkStore.advance(roomId, PROFILE_ID, 500L);
+        awaitFlushed(roomId, 500L);
+
+        chatReadWatermarkRepository.upsertAll(List.of(new Watermark(roomId, PROFILE_ID, 400L)));
+        assertThat(chatReadWatermarkRepository.findByChatRoomId(roomId)).containsEntry(PROFILE_ID, 500L);
+
+        stringRedisTemplate.delete("chat:read:" + roomId);
+        assertThat(readWatermarkStore.advance(roomId, PROFILE_ID, 450L)).isFalse();
+        assertThat(readWatermarkStore.getWatermarks(roomId)).containsEntry(PROFILE_ID, 500L);
+    }
+
+    @Test
+    void markAsReadWithOlderMessageKeepsLaterWatermark() {
+        Member me = fixtures.signup();
+        Member partner = fixtures.signup();
+        Long roomId = fixtures.chatRoomBetween(me, partner);
+        ChatMessageResponse first = chatService.sendMessage(partner.userId(), roomId, text("first"));
+        ChatMessageResponse second = chatService.sendMessage(partner.userId(), roomId, text("second"));
+
+        assertThat(chatService.markAsRead(me.userId(), roomId, second.getId()).getLastReadMessageId())
+                .isEqualTo(second.getId());
+        assertThat(chatService.markAsRead(me.userId(), roomId, first.getId()).getLastReadMessageId())
+                .isEqualTo(second.getId());
+        // 아직 없는 메시지까지 앞당겨지지 않음
+        assertThat(chatService.markAsRead(me.userId(), roomId, Long.MAX_VALUE).getLastReadMessageId())
+                .isEqualTo(second.getId());
+    }
+
+    // 스케줄된 flush 가 먼저 dirty set 을 가져갔을 수 있으므로 DB 반영을 기다림
+    private void awaitFlushed(Long roomId, long lastReadMessageId) {
+        readWatermarkStore.flush();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(chatReadWatermarkRepository.findByChatRoomId(roomId))
+                        .containsEntry(PROFILE_ID, lastReadMessageId));
+    }
+
+    private static Long newRoomId() {
+        return ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+    }
+
+    private static ChatMessageRequest text(String content) {
+        return new ChatMessageRequest(content, ChatMessage.MessageType.TEXT);
+    }
+}
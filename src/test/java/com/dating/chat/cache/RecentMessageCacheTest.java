@@ -0,0 +1,127 @@
+package com.dating.chat.cache;
+
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.repository.ChatMessageRepository;
+import com.dating.common.datasource.PrimaryReader;
+import com.dating.common.id.SnowflakeIdGenerator;
+import com.dating.support.IntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// 같은 Redis 를 쓰는 여러 노드의 로컬 캐시가 방별 채널로 맞춰지는지 확인 (방은 DB 에 메시지가 없는 임의 id)
+class RecentMessageCacheTest extends IntegrationTest {
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private PrimaryReader primaryReader;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void appendOnOneNodeReachesNodesHoldingTheRoom() {
+        RecentMessageCache writer = node(Duration.ofMinutes(1));
+        RecentMessageCache reader = node(Duration.ofMinutes(1));
+        long roomId = idGenerator.nextId();
+        assertThat(reader.getLatest(roomId, 10)).hasValue(List.of());
+        awaitSubscribers(roomId, 1);
+
+        ChatMessageResponse message = message(roomId);
+        writer.append(message);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(reader.getLatest(roomId, 10).orElseThrow()).extracting(ChatMessageResponse::getId)
+                        .containsExactly(message.getId()));
+    }
+
+    @Test
+    void onlyNodesHoldingTheRoomAreSubscribed() {
+        RecentMessageCache holder = node(Duration.ofMinutes(1));
+        node(Duration.ofMinutes(1));
+        long roomId = idGenerator.nextId();
+
+        assertThat(publishReceivers(roomId)).isZero();
+        holder.getLatest(roomId, 10);
+        awaitSubscribers(roomId, 1);
+
+        // 다른 노드의 evict 로 로컬에서 빠지면 구독도 해제
+        node(Duration.ofMinutes(1)).evict(roomId);
+        awaitSubscribers(roomId, 0);
+    }
+
+    @Test
+    void missedAppendIsPickedUpAfterExpireAfterWrite() throws Exception {
+        RecentMessageCache reader = node(Duration.ofMillis(300));
+        long roomId = idGenerator.nextId();
+        assertThat(reader.getLatest(roomId, 10)).hasValue(List.of());
+
+        // pub/sub 없이 Redis 에만 반영된 메시지 (구독 전이나 연결이 끊긴 사이에 발행된 경우)
+        ChatMessageResponse message = message(roomId);
+        stringRedisTemplate.opsForZSet().add("chat:recent:" + roomId, objectMapper.writeValueAsString(message),
+                message.getId());
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(reader.getLatest(roomId, 10).orElseThrow()).extracting(ChatMessageResponse::getId)
+                        .containsExactly(message.getId()));
+    }
+
+    private void awaitSubscribers(long roomId, long expected) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> publishReceivers(roomId) == expected);
+    }
+
+    // 빈 문자열은 JSON 이 아니므로 받은 노드에서 무시됨, PUBLISH 결과는 받은 구독 수
+    private long publishReceivers(long roomId) {
+        Long receivers = stringRedisTemplate.convertAndSend("chat:recent:events:" + roomId, "");
+        return receivers != null ? receivers : 0;
+    }
+
+    private RecentMessageCache node(Duration expireAfterWrite) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return new RecentMessageCache(chatMessageRepository, primaryReader, stringRedisTemplate, container, objectMapper,
+                50, 1000, Duration.ofMinutes(10), expireAfterWrite, Duration.ofHours(1));
+    }
+
+    private ChatMessageResponse message(long roomId) {
+        long id = idGenerator.nextId();
+        return new ChatMessageResponse(id, roomId, 1L, "hello", ChatMessage.MessageType.TEXT, false,
+                LocalDateTime.now());
+    }
+}
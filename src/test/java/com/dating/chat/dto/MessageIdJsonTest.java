@@ -0,0 +1,64 @@
+package com.dating.chat.dto;
+
+import com.dating.chat.domain.ChatMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2^53 을 넘는 메시지 id 가 JSON 에서 문자열로 나가고, 다시 읽어도 같은 값인지 확인
+class MessageIdJsonTest {
+
+    // double 로 바꾸면 (1L << 53) 과 구분되지 않는 값
+    private static final long MESSAGE_ID = (1L << 53) + 1;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void messageIdsAreSerializedAsStrings() throws Exception {
+        ChatMessageResponse message = new ChatMessageResponse(MESSAGE_ID, 1L, 2L, "hi",
+                ChatMessage.MessageType.TEXT, false, LocalDateTime.of(2026, 1, 1, 0, 0));
+
+        JsonNode messageJson = objectMapper.valueToTree(message);
+        assertThat(messageJson.get("id").isTextual()).isTrue();
+        assertThat(messageJson.get("id").asText()).isEqualTo(String.valueOf(MESSAGE_ID));
+
+        JsonNode slice = objectMapper.valueToTree(new ChatMessageSliceResponse(List.of(message), MESSAGE_ID, true));
+        assertThat(slice.get("nextCursor").asText()).isEqualTo(String.valueOf(MESSAGE_ID));
+
+        JsonNode receipt = objectMapper.valueToTree(new ChatReadReceiptResponse(1L, 2L, MESSAGE_ID));
+        assertThat(receipt.get("lastReadMessageId").isTextual()).isTrue();
+
+        ChatRoomSummaryResponse room = new ChatRoomSummaryResponse(1L, 1L, null, 2L, "nick", null,
+                MESSAGE_ID, "hi", ChatMessage.MessageType.TEXT, 2L, null, MESSAGE_ID, 0);
+        JsonNode roomJson = objectMapper.valueToTree(room);
+        assertThat(roomJson.get("lastMessageId").isTextual()).isTrue();
+        assertThat(roomJson.get("lastReadMessageId").isTextual()).isTrue();
+        // 메시지 id 가 아닌 id 는 그대로 숫자
+        assertThat(roomJson.get("id").isNumber()).isTrue();
+    }
+
+    // Redis 캐시 / 보관 블록처럼 서버가 다시 읽는 경로도 같은 값으로 복원
+    @Test
+    void messageIdsRoundTripWithoutPrecisionLoss() throws Exception {
+        ChatMessageResponse message = new ChatMessageResponse(MESSAGE_ID, 1L, 2L, "hi",
+                ChatMessage.MessageType.TEXT, false, LocalDateTime.of(2026, 1, 1, 0, 0));
+
+        ChatMessageResponse read = objectMapper.readValue(objectMapper.writeValueAsString(message),
+                ChatMessageResponse.class);
+        assertThat(read.getId()).isEqualTo(MESSAGE_ID);
+
+        ChatReadReceiptResponse receipt = objectMapper.readValue(
+                objectMapper.writeValueAsString(new ChatReadReceiptResponse(1L, 2L, MESSAGE_ID)),
+                ChatReadReceiptResponse.class);
+        assertThat(receipt.getLastReadMessageId()).isEqualTo(MESSAGE_ID);
+
+        // 이전에 숫자로 저장된 캐시 / 보관 블록도 그대로 읽힘
+        assertThat(objectMapper.readValue("{\"id\":" + MESSAGE_ID + "}", ChatMessageResponse.class).getId())
+                .isEqualTo(MESSAGE_ID);
+    }
+}
@@ -0,0 +1,127 @@
+package com.dating.chat.event;
+
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.dto.ChatMessageRequest;
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.service.ChatService;
+import com.dating.common.event.DomainEventPublisher;
+import com.dating.match.event.LikeReceivedEvent;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// stream dispatcher 스레드가 느린 리스너에 묶여 있어도 채팅 메시지는 커밋 직후 바로 중계
+@Import(ChatBroadcastIsolationTest.SlowListenerConfig.class)
+class ChatBroadcastIsolationTest extends IntegrationTest {
+
+    private static final long SLOW_PROFILE_ID = -4242L;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private SlowListener slowListener;
+
+    private RedisMessageListenerContainer container;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        slowListener.release.countDown();
+        if (container != null) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void chatBroadcastIsNotBlockedBySlowDomainEventListener() throws Exception {
+        Member me = fixtures.signup();
+        Member partner = fixtures.signup();
+        Long roomId = fixtures.chatRoomBetween(me, partner);
+        String channel = "stomp:/topic/chat/" + roomId;
+        List<String> relayed = subscribe(channel);
+
+        domainEventPublisher.publish(new LikeReceivedEvent(SLOW_PROFILE_ID, SLOW_PROFILE_ID));
+        assertThat(slowListener.entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        ChatMessageResponse sent = chatService.sendMessage(me.userId(), roomId,
+                new ChatMessageRequest("hello", ChatMessage.MessageType.TEXT));
+
+        await().atMost(Duration.ofSeconds(2))
+                .until(() -> relayed.stream().anyMatch(body -> body.contains(String.valueOf(sent.getId()))));
+        // 중계는 느린 리스너가 끝나기 전에 이루어짐
+        assertThat(slowListener.release.getCount()).isEqualTo(1);
+    }
+
+    private List<String> subscribe(String channel) {
+        List<String> received = new CopyOnWriteArrayList<>();
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) ->
+                received.add(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+        // PUBLISH 가 구독자 수를 돌려주므로 구독이 끝날 때까지 기다림
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            Long receivers = stringRedisTemplate.convertAndSend(channel, "{}");
+            return receivers != null && receivers > 0;
+        });
+        return received;
+    }
+
+    @TestConfiguration
+    static class SlowListenerConfig {
+
+        @Bean
+        SlowListener slowListener() {
+            return new SlowListener();
+        }
+    }
+
+    // presence 확인 + 푸시 enqueue 가 느려진 상황을 흉내냄
+    static class SlowListener {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @EventListener
+        public void onLikeReceived(LikeReceivedEvent event) throws InterruptedException {
+            if (event.fromProfileId() == SLOW_PROFILE_ID) {
+                entered.countDown();
+                release.await(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
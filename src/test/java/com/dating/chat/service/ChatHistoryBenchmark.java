@@ -0,0 +1,103 @@
+package com.dating.chat.service;
+
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.dto.ChatMessageSliceResponse;
+import com.dating.support.BenchmarkEnvironment;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 메시지 10만 개인 채팅방에서 500 번째 페이지 조회
+// - offset: GET /messages (Page, OFFSET + COUNT(*))
+// - keyset: GET /messages/history (499 번째 페이지의 마지막 id 를 before 로 전달)
+// 실행: ./gradlew jmh -Pjmh.includes=ChatHistoryBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatHistoryBenchmark {
+
+    private static final long SNOWFLAKE_EPOCH_MILLIS = 1704067200000L;
+    private static final int SNOWFLAKE_TIMESTAMP_SHIFT = 22;
+    private static final int PAGE = 500;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    public int messages;
+
+    private BenchmarkEnvironment environment;
+    private ChatService chatService;
+    private Long userId;
+    private Long chatRoomId;
+    private Long beforeId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        environment = BenchmarkEnvironment.start();
+        TestFixtures fixtures = environment.createBean(TestFixtures.class);
+        Member me = fixtures.signup();
+        Member partner = fixtures.signup();
+        userId = me.userId();
+        chatRoomId = fixtures.chatRoomBetween(me, partner);
+
+        // 1초 간격의 과거 메시지, id 는 SnowflakeIdGenerator 와 같은 배치로 생성 시각을 담음
+        JdbcTemplate jdbcTemplate = environment.jdbcTemplate();
+        long startMillis = System.currentTimeMillis() - messages * 1000L;
+        jdbcTemplate.update("""
+                INSERT INTO chat_messages (id, chat_room_id, sender_profile_id, content, type, is_read, created_at)
+                SELECT ((? + g * 1000 - ?) << ?), ?, CASE WHEN g % 2 = 0 THEN ? ELSE ? END,
+                       'message ' || g, 'TEXT', false, to_timestamp((? + g * 1000) / 1000.0)::timestamp
+                FROM generate_series(1, ?) g
+                """, startMillis, SNOWFLAKE_EPOCH_MILLIS, SNOWFLAKE_TIMESTAMP_SHIFT, chatRoomId,
+                me.profileId(), partner.profileId(), startMillis, messages);
+        jdbcTemplate.execute("ANALYZE chat_messages");
+
+        beforeId = jdbcTemplate.queryForObject("""
+                SELECT id FROM chat_messages WHERE chat_room_id = ?
+                ORDER BY created_at DESC, id DESC OFFSET ? LIMIT 1
+                """, Long.class, chatRoomId, (PAGE - 1) * PAGE_SIZE - 1);
+        chatService = environment.getBean(ChatService.class);
+
+        // 두 방식이 같은 페이지를 비교하는지 확인
+        List<Long> offsetIds = offset().getContent().stream().map(ChatMessageResponse::getId).toList();
+        List<Long> keysetIds = keyset().getMessages().stream().map(ChatMessageResponse::getId).toList();
+        if (offsetIds.size() != PAGE_SIZE || !offsetIds.equals(keysetIds)) {
+            throw new IllegalStateException("offset and keyset pages differ: " + offsetIds + " / " + keysetIds);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+
+    @Benchmark
+    public Page<ChatMessageResponse> offset() {
+        return chatService.getMessages(userId, chatRoomId, PageRequest.of(PAGE - 1, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public ChatMessageSliceResponse keyset() {
+        return chatService.getMessageHistory(userId, chatRoomId, beforeId, PAGE_SIZE);
+    }
+}
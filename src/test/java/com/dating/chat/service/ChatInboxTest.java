@@ -0,0 +1,46 @@
+package com.dating.chat.service;
+
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ChatInboxTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void nonPositiveSizeIsClampedToOne() throws Exception {
+        Member me = fixtures.signup();
+        fixtures.chatRoomBetween(me, fixtures.signup());
+        fixtures.chatRoomBetween(me, fixtures.signup());
+
+        mockMvc.perform(get("/api/v1/chat/inbox").param("size", "-2").header("Authorization", me.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rooms.length()").value(1));
+
+        String body = mockMvc.perform(get("/api/v1/chat/inbox").param("size", "0").header("Authorization", me.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rooms.length()").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = JsonPath.read(body, "$.data.nextCursor");
+        mockMvc.perform(get("/api/v1/chat/inbox").param("size", "0").param("cursor", cursor)
+                        .header("Authorization", me.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rooms.length()").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+}
@@ -0,0 +1,110 @@
+package com.dating.chat.service;
+
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.dto.ChatMessageRequest;
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.repository.ChatMessageArchiveRepository;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ChatMessageHistoryTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void nonPositiveSizeIsClampedToOne() throws Exception {
+        Member me = fixtures.signup();
+        Member partner = fixtures.signup();
+        Long roomId = fixtures.chatRoomBetween(me, partner);
+        ChatMessageResponse first = chatService.sendMessage(me.userId(), roomId, text("first"));
+        chatService.sendMessage(partner.userId(), roomId, text("second"));
+        ChatMessageResponse third = chatService.sendMessage(me.userId(), roomId, text("third"));
+
+        // 첫 페이지 (최근 메시지 캐시 경로)
+        for (String size : new String[]{"0", "-3"}) {
+            mockMvc.perform(history(me, roomId).param("size", size))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.messages.length()").value(1))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+        }
+
+        // before 커서가 있는 페이지 (DB 경로)
+        mockMvc.perform(history(me, roomId).param("before", String.valueOf(third.getId())).param("size", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.messages.length()").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+        mockMvc.perform(history(me, roomId).param("before", String.valueOf(first.getId() + 1)).param("size", "-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.messages[0].id").value(String.valueOf(first.getId())))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    // 오래된 메시지가 chat_message_archives 로 옮겨져도 before 커서로 이어서 내려감
+    @Test
+    void historyContinuesIntoArchivedMessages() throws Exception {
+        Member me = fixtures.signup();
+        Member partner = fixtures.signup();
+        Long roomId = fixtures.chatRoomBetween(me, partner);
+        List<ChatMessageResponse> sent = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            sent.add(chatService.sendMessage(me.userId(), roomId, text("message-" + i)));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM chat_messages WHERE chat_room_id = ?", Integer.class, roomId) == 5);
+
+        List<ChatMessageResponse> archived = sent.subList(0, 3);
+        chatMessageArchiveRepository.save(roomId, archived);
+        jdbcTemplate.update("DELETE FROM chat_messages WHERE id IN (?, ?, ?)",
+                archived.get(0).getId(), archived.get(1).getId(), archived.get(2).getId());
+
+        mockMvc.perform(history(me, roomId).param("before", String.valueOf(sent.get(4).getId())).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.messages[0].content").value("message-4"))
+                .andExpect(jsonPath("$.data.messages[1].content").value("message-3"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(String.valueOf(sent.get(2).getId())));
+        mockMvc.perform(history(me, roomId).param("before", String.valueOf(sent.get(2).getId())).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.messages[0].content").value("message-2"))
+                .andExpect(jsonPath("$.data.messages[1].content").value("message-1"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    private static MockHttpServletRequestBuilder history(Member member, Long roomId) {
+        return get("/api/v1/chat/rooms/{roomId}/messages/history", roomId)
+                .header("Authorization", member.bearer());
+    }
+
+    private static ChatMessageRequest text(String content) {
+        return new ChatMessageRequest(content, ChatMessage.MessageType.TEXT);
+    }
+}
@@ -0,0 +1,156 @@
+package com.dating.chat.service;
+
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.repository.ChatMessageArchiveRepository;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 공유 DB 의 chat_messages 를 건드리지 않도록 별도 스키마에 테이블을 복제해 파티션 전환 스크립트부터 보관까지 실행
+class ChatMessagePartitionManagerTest extends IntegrationTest {
+
+    private static final String SCHEMA = "partitioning_test";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private JdbcTemplate schemaJdbcTemplate;
+    private ChatMessageArchiveRepository archiveRepository;
+    private ChatMessagePartitionManager partitionManager;
+    private Long roomA;
+    private Long roomB;
+    private Member sender;
+
+    @BeforeEach
+    void setUp() {
+        sender = fixtures.signup();
+        Member partnerA = fixtures.signup();
+        Member partnerB = fixtures.signup();
+        roomA = fixtures.chatRoomBetween(sender, partnerA);
+        roomB = fixtures.chatRoomBetween(sender, partnerB);
+
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        for (String table : List.of("profiles", "chat_rooms", "chat_messages", "chat_message_archives")) {
+            jdbcTemplate.execute("CREATE TABLE %s.%s (LIKE public.%s INCLUDING ALL)".formatted(SCHEMA, table, table));
+        }
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".profiles SELECT * FROM public.profiles WHERE id IN (?, ?, ?)",
+                sender.profileId(), partnerA.profileId(), partnerB.profileId());
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".chat_rooms SELECT * FROM public.chat_rooms WHERE id IN (?, ?)",
+                roomA, roomB);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(jdbcUrl() + "&currentSchema=" + SCHEMA);
+        schemaJdbcTemplate = new JdbcTemplate(dataSource);
+        archiveRepository = new ChatMessageArchiveRepository(schemaJdbcTemplate, objectMapper);
+        partitionManager = new ChatMessagePartitionManager(schemaJdbcTemplate, archiveRepository,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), 4, 12, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @Test
+    void coldPartitionsAreArchivedAndReadBack() throws Exception {
+        YearMonth coldMonth = YearMonth.now().minusMonths(14);
+        LocalDateTime coldAt = coldMonth.atDay(10).atStartOfDay();
+        List<ChatMessageResponse> roomAMessages = List.of(
+                message(101, roomA, "a1", coldAt),
+                message(102, roomA, "a2", coldAt.plusMinutes(1)),
+                message(103, roomA, "a3", coldAt.plusMinutes(2)));
+        List<ChatMessageResponse> roomBMessages = List.of(
+                message(201, roomB, "b1", coldAt),
+                message(202, roomB, "b2", coldAt.plusMinutes(1)));
+        ChatMessageResponse live = message(301, roomA, "live", LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        roomAMessages.forEach(this::insert);
+        roomBMessages.forEach(this::insert);
+        insert(live);
+
+        schemaJdbcTemplate.execute(new ClassPathResource("db/partition_chat_messages.sql")
+                .getContentAsString(StandardCharsets.UTF_8));
+        assertThat(partitionExists(coldMonth)).isTrue();
+
+        partitionManager.maintain();
+
+        // 보관 기간이 지난 파티션은 삭제되고, 앞으로 쓸 파티션은 미리 생성
+        assertThat(partitionExists(coldMonth)).isFalse();
+        assertThat(partitionExists(coldMonth.plusMonths(1))).isFalse();
+        assertThat(partitionExists(YearMonth.now())).isTrue();
+        assertThat(partitionExists(YearMonth.now().plusMonths(4))).isTrue();
+        assertThat(schemaJdbcTemplate.queryForList("SELECT id FROM chat_messages", Long.class))
+                .containsExactly(live.getId());
+
+        // 채팅방이 바뀌거나 block-size 가 차면 블록을 나눔
+        assertThat(schemaJdbcTemplate.query(
+                "SELECT chat_room_id, first_message_id, last_message_id, message_count FROM chat_message_archives"
+                        + " ORDER BY chat_room_id, first_message_id",
+                (rs, rowNum) -> tuple(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getInt(4))))
+                .containsExactly(
+                        tuple(roomA, 101L, 102L, 2),
+                        tuple(roomA, 103L, 103L, 1),
+                        tuple(roomB, 201L, 202L, 2));
+
+        assertThat(archiveRepository.findBefore(roomA, live.getId(), 10))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(roomAMessages.get(2), roomAMessages.get(1), roomAMessages.get(0));
+        assertThat(archiveRepository.findBefore(roomA, 103, 1))
+                .extracting(ChatMessageResponse::getContent)
+                .containsExactly("a2");
+        assertThat(archiveRepository.findBefore(roomB, Long.MAX_VALUE, 10))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(roomBMessages.get(1), roomBMessages.get(0));
+
+        // 다시 실행해도 이미 보관한 구간을 중복으로 옮기지 않음
+        partitionManager.maintain();
+        assertThat(schemaJdbcTemplate.queryForObject("SELECT count(*) FROM chat_message_archives", Integer.class))
+                .isEqualTo(3);
+    }
+
+    private ChatMessageResponse message(long id, Long roomId, String content, LocalDateTime createdAt) {
+        return new ChatMessageResponse(id, roomId, sender.profileId(), content, ChatMessage.MessageType.TEXT,
+                false, createdAt);
+    }
+
+    private void insert(ChatMessageResponse message) {
+        schemaJdbcTemplate.update("""
+                        INSERT INTO chat_messages (id, chat_room_id, sender_profile_id, content, type, is_read, created_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?)
+                        """,
+                message.getId(), message.getChatRoomId(), message.getSenderProfileId(), message.getContent(),
+                message.getType().name(), message.getIsRead(), message.getCreatedAt());
+    }
+
+    private boolean partitionExists(YearMonth month) {
+        return schemaJdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                "chat_messages_p" + month.format(PARTITION_SUFFIX));
+    }
+}
@@ -0,0 +1,82 @@
+package com.dating.chat.service;
+
+import com.dating.chat.dto.ChatRoomResponse;
+import com.dating.match.dto.MatchResponse;
+import com.dating.match.repository.MatchRepository;
+import com.dating.match.service.MatchService;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomCreationTest extends IntegrationTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 두 사용자가 각자 자기 스와이프 행으로 동시에 요청해도 채팅방은 하나만 생성
+    @Test
+    void concurrentRequestsFromBothUsersShareOneRoom() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Member first = fixtures.signup();
+                Member second = fixtures.signup();
+                matchService.like(first.profileId(), second.profileId());
+                MatchResponse match = matchService.like(second.profileId(), first.profileId());
+                Long firstMatchId = matchRepository
+                        .findByFromProfileIdAndToProfileId(first.profileId(), second.profileId())
+                        .orElseThrow().getId();
+
+                CountDownLatch start = new CountDownLatch(1);
+                Future<ChatRoomResponse> fromFirst = executor.submit(createRoom(start, first.profileId(), firstMatchId));
+                Future<ChatRoomResponse> fromSecond = executor.submit(createRoom(start, second.profileId(), match.getId()));
+                start.countDown();
+
+                Long roomId = fromFirst.get(10, TimeUnit.SECONDS).getId();
+                assertThat(fromSecond.get(10, TimeUnit.SECONDS).getId()).isEqualTo(roomId);
+                assertThat(roomCount(List.of(firstMatchId, match.getId()))).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<ChatRoomResponse> createRoom(CountDownLatch start, Long profileId, Long matchId) {
+        return () -> {
+            start.await();
+            return chatService.createChatRoom(profileId, matchId);
+        };
+    }
+
+    private Integer roomCount(List<Long> matchIds) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_rooms WHERE match_id IN (?, ?)",
+                Integer.class, matchIds.get(0), matchIds.get(1));
+    }
+}
@@ -0,0 +1,135 @@
+package com.dating.chat.service;
+
+import com.dating.chat.cache.RecentMessageCache;
+import com.dating.chat.dto.ChatMessageRequest;
+import com.dating.profile.cache.ProfileCache;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Hibernate 통계(test 프로필에서 generate_statistics 사용)로 목록 API 마다 실행한 쿼리 수를 확인
+// 목록 크기와 무관하게 쿼리 수가 고정이고, 엔티티를 읽거나 연관을 지연 로딩하지 않아야 함
+// 통계는 JVM 전역이므로 백그라운드 작업이 섞인 측정은 다시 시도
+class ListEndpointQueryCountTest extends IntegrationTest {
+
+    private static final int ROOMS = 4;
+    private static final int MESSAGES_PER_ROOM = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ProfileCache profileCache;
+
+    @Autowired
+    private RecentMessageCache recentMessageCache;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member me;
+    private final List<Member> partners = new ArrayList<>();
+    private final List<Long> roomIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        me = fixtures.signup();
+        for (int i = 0; i < ROOMS; i++) {
+            Member partner = fixtures.signup();
+            Long roomId = fixtures.chatRoomBetween(me, partner);
+            for (int j = 0; j < MESSAGES_PER_ROOM; j++) {
+                chatService.sendMessage(me.userId(), roomId, new ChatMessageRequest("message " + j, null));
+            }
+            partners.add(partner);
+            roomIds.add(roomId);
+        }
+
+        // 메시지가 DB 에 기록되고, 위에서 발행한 도메인 이벤트 처리가 끝난 뒤에 측정
+        await().atMost(Duration.ofSeconds(10)).until(() ->
+                stringRedisTemplate.opsForStream().size("chat:messages:stream") == 0
+                        && stringRedisTemplate.opsForStream().size("domain:events:stream") == 0);
+    }
+
+    @Test
+    void chatRoomListIsOneQuery() {
+        assertStatements(1, get("/api/v1/chat/rooms"), () -> {
+        });
+    }
+
+    @Test
+    void messagePageIsOneQuery() {
+        assertStatements(1, get("/api/v1/chat/rooms/" + roomIds.get(0) + "/messages"), () -> {
+        });
+    }
+
+    @Test
+    void coldMessageHistoryIsOneQuery() {
+        Long roomId = roomIds.get(0);
+        assertStatements(1, get("/api/v1/chat/rooms/" + roomId + "/messages/history"),
+                () -> recentMessageCache.evict(roomId));
+    }
+
+    // 캐시에 없는 프로필 카드는 개수와 상관없이 같은 수의 IN 쿼리로 채움 (프로필, 이미지, 관심사)
+    @Test
+    void coldProfileCardsAreLoadedWithFixedQueries() {
+        assertStatements(3, get("/api/v1/profiles").param("ids", ids(partners.subList(0, 1))),
+                () -> profileCache.evict(partners.get(0).profileId()));
+        assertStatements(3, get("/api/v1/profiles").param("ids", ids(partners)),
+                () -> partners.forEach(partner -> profileCache.evict(partner.profileId())));
+    }
+
+    private void assertStatements(long expected, MockHttpServletRequestBuilder request, Runnable prepare) {
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            long statements = measure(request, prepare);
+            assertThat(statements).isEqualTo(expected);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getEntityFetchCount()).isZero();
+            assertThat(statistics.getCollectionFetchCount()).isZero();
+        });
+    }
+
+    private long measure(MockHttpServletRequestBuilder request, Runnable prepare) {
+        prepare.run();
+        statistics.clear();
+        try {
+            mockMvc.perform(request.header("Authorization", me.bearer())).andExpect(status().isOk());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static String ids(List<Member> members) {
+        return members.stream().map(member -> String.valueOf(member.profileId())).collect(Collectors.joining(","));
+    }
+}
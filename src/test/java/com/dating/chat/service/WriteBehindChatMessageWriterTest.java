@@ -0,0 +1,141 @@
+package com.dating.chat.service;
+
+import com.dating.chat.domain.ChatMessage;
+import com.dating.chat.domain.ChatRoom;
+import com.dating.chat.dto.ChatMessageResponse;
+import com.dating.chat.repository.ChatRoomRepository;
+import com.dating.common.id.SnowflakeIdGenerator;
+import com.dating.match.domain.Match;
+import com.dating.match.repository.MatchRepository;
+import com.dating.profile.repository.ProfileRepository;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindChatMessageWriterTest extends IntegrationTest {
+
+    private static final String STREAM_KEY = "chat:messages:stream";
+    private static final String DEAD_LETTER_KEY = "chat:messages:dead";
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Member sender;
+    private Long chatRoomId;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(List.of(STREAM_KEY, DEAD_LETTER_KEY, "chat:messages:attempts"));
+        sender = fixtures.signup();
+        Member receiver = fixtures.signup();
+        chatRoomId = transactionTemplate.execute(status -> {
+            Match match = matchRepository.save(Match.builder()
+                    .fromProfile(profileRepository.getReferenceById(sender.profileId()))
+                    .toProfile(profileRepository.getReferenceById(receiver.profileId()))
+                    .action(Match.MatchAction.LIKE)
+                    .build());
+            return chatRoomRepository.save(new ChatRoom(match)).getId();
+        });
+    }
+
+    @Test
+    void poisonRecordsAreRetriedOneByOneThenDeadLettered() throws Exception {
+        WriteBehindChatMessageWriter writer = writer(Duration.ofSeconds(30));
+        long validId = enqueue(chatRoomId);
+        long orphanId = enqueue(Long.MAX_VALUE);  // 없는 채팅방 -> FK 위반
+        stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of("payload", "not-json"))
+                .withStreamKey(STREAM_KEY));
+
+        writer.flush();
+        assertThat(persisted(validId)).isTrue();
+        assertThat(persisted(orphanId)).isFalse();
+        assertThat(stringRedisTemplate.opsForStream().size(DEAD_LETTER_KEY)).isZero();
+
+        writer.flush();
+        assertThat(stringRedisTemplate.opsForStream().size(DEAD_LETTER_KEY)).isEqualTo(2);
+        assertThat(stringRedisTemplate.opsForStream().size(STREAM_KEY)).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void idleMessagesOfAnotherConsumerAreClaimed() throws Exception {
+        WriteBehindChatMessageWriter writer = writer(Duration.ofMillis(50));
+        long messageId = enqueue(chatRoomId);
+
+        // 다른 노드가 읽고 ACK 하기 전에 죽은 상황
+        stringRedisTemplate.opsForStream().read(Consumer.from("chat-message-writer", "node-dead"),
+                StreamReadOptions.empty().count(10), StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        writer.flush();
+        assertThat(persisted(messageId)).isFalse();
+
+        Thread.sleep(100);
+        writer.flush();
+        assertThat(persisted(messageId)).isTrue();
+        assertThat(stringRedisTemplate.opsForStream().pending(STREAM_KEY, "chat-message-writer").getTotalPendingMessages())
+                .isZero();
+    }
+
+    private WriteBehindChatMessageWriter writer(Duration claimIdle) {
+        WriteBehindChatMessageWriter writer = new WriteBehindChatMessageWriter(
+                stringRedisTemplate, jdbcTemplate, objectMapper, idGenerator, 10, claimIdle, 2);
+        writer.createConsumerGroup();
+        return writer;
+    }
+
+    private long enqueue(Long roomId) throws Exception {
+        long id = idGenerator.nextId();
+        String payload = objectMapper.writeValueAsString(new ChatMessageResponse(
+                id, roomId, sender.profileId(), "hello", ChatMessage.MessageType.TEXT, false, LocalDateTime.now()));
+        stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of("payload", payload))
+                .withStreamKey(STREAM_KEY));
+        return id;
+    }
+
+    private boolean persisted(long messageId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages WHERE id = ?", Integer.class, messageId);
+        return count != null && count > 0;
+    }
+}
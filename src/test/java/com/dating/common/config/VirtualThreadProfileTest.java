@@ -0,0 +1,52 @@
+package com.dating.common.config;
+
+import com.dating.support.IntegrationTest;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// virtual-threads 프로필은 JDK 21 이상에서만 기동되므로 그 외 런타임에서는 건너뜀
+@EnabledForJreRange(min = JRE.JAVA_21)
+@ActiveProfiles("virtual-threads")
+class VirtualThreadProfileTest extends IntegrationTest {
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private ExecutorSubscribableChannel clientInboundChannel;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void inboundMessagesRunOnVirtualThreads() throws Exception {
+        CompletableFuture<Thread> worker = new CompletableFuture<>();
+        clientInboundChannel.getExecutor().execute(() -> worker.complete(Thread.currentThread()));
+
+        assertThat(isVirtual(worker.get(5, TimeUnit.SECONDS))).isTrue();
+    }
+
+    // 요청 수가 스레드 수로 제한되지 않으므로 커넥션 풀이 DB 동시성의 상한
+    @Test
+    void connectionPoolBoundsDatabaseConcurrency() {
+        assertThat(dataSource).isInstanceOfSatisfying(HikariDataSource.class, hikari -> {
+            assertThat(hikari.getMaximumPoolSize()).isEqualTo(20);
+            assertThat(hikari.getConnectionTimeout()).isEqualTo(3000);
+        });
+    }
+
+    // 빌드 대상이 Java 17 이라 Thread.isVirtual() 을 직접 호출할 수 없음
+    private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+        return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+}
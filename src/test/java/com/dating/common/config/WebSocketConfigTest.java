@@ -0,0 +1,113 @@
+package com.dating.common.config;
+
+import com.dating.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebSocketConfigTest extends IntegrationTest {
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private ExecutorSubscribableChannel clientInboundChannel;
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private ExecutorSubscribableChannel clientOutboundChannel;
+
+    @Autowired
+    private SubProtocolWebSocketHandler subProtocolWebSocketHandler;
+
+    @Test
+    void channelExecutorsUseConfiguredPools() {
+        assertPool(clientInboundChannel, 8, 32, 10000);
+        assertPool(clientOutboundChannel, 8, 32, 10000);
+    }
+
+    @Test
+    void transportLimitsAreApplied() {
+        assertThat(subProtocolWebSocketHandler.getSendBufferSizeLimit()).isEqualTo(512 * 1024);
+        assertThat(subProtocolWebSocketHandler.getSendTimeLimit()).isEqualTo(10_000);
+        assertThat(subProtocolWebSocketHandler.getTimeToFirstMessage()).isEqualTo(30_000);
+        assertThat(subProtocolWebSocketHandler.getProtocolHandlers())
+                .singleElement()
+                .isInstanceOfSatisfying(StompSubProtocolHandler.class,
+                        handler -> assertThat(handler.getMessageSizeLimit()).isEqualTo(64 * 1024));
+    }
+
+    // 전송이 막힌 세션에 send-buffer-size-limit 을 넘게 쌓이면 그 세션만 끊기고 호출 스레드는 막히지 않음
+    @Test
+    void slowSessionIsClosedOnceSendBufferOverflows() throws Exception {
+        CountDownLatch unblock = new CountDownLatch(1);
+        WebSocketSession session = blockingSession(unblock);
+        subProtocolWebSocketHandler.afterConnectionEstablished(session);
+
+        ExecutorService stuckSender = Executors.newSingleThreadExecutor();
+        try {
+            stuckSender.submit(() -> subProtocolWebSocketHandler.handleMessage(message(session, 1024)));
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> verify(session).sendMessage(any()));
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < 4; i++) {
+                subProtocolWebSocketHandler.handleMessage(message(session, 200 * 1024));
+            }
+
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+            verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        } finally {
+            unblock.countDown();
+            stuckSender.shutdown();
+            stuckSender.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void assertPool(ExecutorSubscribableChannel channel, int core, int max, int queueCapacity) {
+        assertThat(channel.getExecutor()).isInstanceOfSatisfying(ThreadPoolTaskExecutor.class, executor -> {
+            assertThat(executor.getCorePoolSize()).isEqualTo(core);
+            assertThat(executor.getMaxPoolSize()).isEqualTo(max);
+            assertThat(executor.getQueueCapacity()).isEqualTo(queueCapacity);
+        });
+    }
+
+    private static WebSocketSession blockingSession(CountDownLatch unblock) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(UUID.randomUUID().toString());
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        doAnswer(invocation -> unblock.await(30, TimeUnit.SECONDS)).when(session).sendMessage(any());
+        return session;
+    }
+
+    private static org.springframework.messaging.Message<byte[]> message(WebSocketSession session, int size) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(session.getId());
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination("/topic/chat/1");
+        return MessageBuilder.createMessage(new byte[size], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,170 @@
+package com.dating.common.datasource;
+
+import com.dating.common.security.AuthUser;
+import com.dating.common.websocket.PrimaryRoutingChannelInterceptor;
+import com.dating.common.websocket.StompAuthChannelInterceptor;
+import com.dating.support.IntegrationTest;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// replica 로 같은 embedded PostgreSQL 을 ApplicationName 만 다르게 붙여, 커넥션을 어느 풀에서 받았는지 구분
+class ReplicaRoutingTest extends IntegrationTest {
+
+    private static final String REPLICA = "replica";
+
+    @DynamicPropertySource
+    static void replica(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replica.enabled", () -> "true");
+        registry.add("datasource.replica.urls", () -> jdbcUrl() + "&ApplicationName=" + REPLICA);
+        registry.add("datasource.replica.lag-check-interval", () -> "200ms");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PrimaryReader primaryReader;
+
+    @Autowired
+    private ReadYourWritesFilter readYourWritesFilter;
+
+    @Autowired
+    private PrimaryRoutingChannelInterceptor primaryRoutingChannelInterceptor;
+
+    @Autowired
+    private StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private ExecutorSubscribableChannel clientInboundChannel;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        // 첫 지연 확인이 끝나기 전에는 모두 primary
+        await().atMost(Duration.ofSeconds(5)).until(() -> REPLICA.equals(readOnlyConnection()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaUnlessPinned() {
+        assertThat(readOnlyConnection()).isEqualTo(REPLICA);
+        assertThat(primaryName()).isNotEqualTo(REPLICA);
+
+        ReplicaRoutingContext.pinToPrimary();
+        assertThat(readOnlyConnection()).isNotEqualTo(REPLICA);
+    }
+
+    // 이미 replica 커넥션을 잡은 읽기 전용 트랜잭션 안에서도 캐시 적재용 조회는 primary 에서
+    @Test
+    void primaryReaderReadsFromPrimaryInsideReplicaTransaction() {
+        List<String> names = readOnlyTransaction.execute(status -> List.of(
+                applicationName(),
+                primaryReader.read(this::applicationName),
+                applicationName()));
+
+        assertThat(names).containsExactly(REPLICA, primaryName(), REPLICA);
+        assertThat(primaryReader.read(this::readOnlyConnection)).isNotEqualTo(REPLICA);
+        assertThat(ReplicaRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void writeRequestsAndFollowingReadsArePinnedToPrimary() throws Exception {
+        long writer = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        long reader = writer - 1;
+
+        assertThat(connectionDuringRequest("GET", reader)).isEqualTo(REPLICA);
+        assertThat(connectionDuringRequest("POST", writer)).isNotEqualTo(REPLICA);
+        assertThat(connectionDuringRequest("GET", writer)).isNotEqualTo(REPLICA);
+        assertThat(ReplicaRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    // inbound executor 스레드에서 처리되는 STOMP 메시지는 primary 에서 읽고, 처리 후에는 고정을 해제
+    @Test
+    void stompInboundProcessingIsPinnedToPrimary() throws Exception {
+        // 인증 인터셉터의 멤버십 조회보다 먼저 고정
+        List<ChannelInterceptor> interceptors = clientInboundChannel.getInterceptors();
+        assertThat(interceptors.indexOf(primaryRoutingChannelInterceptor))
+                .isNotNegative()
+                .isLessThan(interceptors.indexOf(stompAuthChannelInterceptor));
+
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(Executors.newSingleThreadExecutor());
+        channel.addInterceptor(primaryRoutingChannelInterceptor);
+        CompletableFuture<String> handled = new CompletableFuture<>();
+        channel.subscribe(message -> handled.complete(readOnlyConnection()));
+
+        channel.send(MessageBuilder.withPayload(new byte[0]).build());
+
+        assertThat(handled.get(5, TimeUnit.SECONDS)).isNotEqualTo(REPLICA);
+        assertThat(ReplicaRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    private String connectionDuringRequest(String method, long userId) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthUser(userId, userId), null, List.of()));
+        AtomicReference<String> name = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request,
+                                   HttpServletResponse response) {
+                name.set(readOnlyConnection());
+            }
+        });
+        readYourWritesFilter.doFilter(new MockHttpServletRequest(method, "/api/v1/test"), new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+        return name.get();
+    }
+
+    private String readOnlyConnection() {
+        return readOnlyTransaction.execute(status -> applicationName());
+    }
+
+    private String primaryName() {
+        return new TransactionTemplate(transactionManager).execute(status -> applicationName());
+    }
+
+    private String applicationName() {
+        return jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class);
+    }
+}
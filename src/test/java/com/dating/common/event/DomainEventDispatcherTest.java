@@ -0,0 +1,71 @@
+package com.dating.common.event;
+
+import com.dating.common.id.SnowflakeIdGenerator;
+import com.dating.match.event.LikeReceivedEvent;
+import com.dating.support.IntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class DomainEventDispatcherTest extends IntegrationTest {
+
+    private static final String CONSUMER_GROUP = "domain-event-dispatcher";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    // 이전 노드 id 의 consumer 가 읽고 ACK 하지 못한 이벤트를 claim-idle 이후 현재 노드가 가져와 처리
+    @Test
+    void eventsLeftPendingByDeadConsumerAreClaimed() {
+        Consumer deadConsumer = Consumer.from(CONSUMER_GROUP, "node-" + (idGenerator.getNodeId() + 1000));
+
+        // 현재 노드의 dispatcher 가 먼저 읽어 가면 새 이벤트로 다시 시도
+        RecordId recordId = await().atMost(Duration.ofSeconds(10))
+                .until(() -> appendAndReadAs(deadConsumer), id -> id != null);
+
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> {
+            assertThat(stringRedisTemplate.opsForStream()
+                    .range(DomainEventDispatcher.STREAM_KEY, Range.closed(recordId.getValue(), recordId.getValue())))
+                    .isEmpty();
+            assertThat(isPendingFor(recordId, deadConsumer.getName())).isFalse();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private RecordId appendAndReadAs(Consumer deadConsumer) throws Exception {
+        RecordId recordId = stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                        DomainEventDispatcher.TYPE_FIELD, LikeReceivedEvent.class.getName(),
+                        DomainEventDispatcher.PAYLOAD_FIELD, objectMapper.writeValueAsString(new LikeReceivedEvent(-1L, -2L))))
+                .withStreamKey(DomainEventDispatcher.STREAM_KEY));
+        stringRedisTemplate.opsForStream().read(deadConsumer, StreamReadOptions.empty().count(100),
+                StreamOffset.create(DomainEventDispatcher.STREAM_KEY, ReadOffset.lastConsumed()));
+        return isPendingFor(recordId, deadConsumer.getName()) ? recordId : null;
+    }
+
+    private boolean isPendingFor(RecordId recordId, String consumerName) {
+        return stringRedisTemplate.opsForStream()
+                .pending(DomainEventDispatcher.STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), 1000)
+                .stream()
+                .anyMatch(message -> message.getId().equals(recordId) && message.getConsumerName().equals(consumerName));
+    }
+}
@@ -0,0 +1,110 @@
+package com.dating.common.event;
+
+import com.dating.match.event.LikeReceivedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DomainEventPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StreamOperations<String, Object, Object> streamOperations;
+    private DomainEventDispatcher dispatcher;
+    private DomainEventPublisher publisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+        dispatcher = mock(DomainEventDispatcher.class);
+        publisher = new DomainEventPublisher(stringRedisTemplate, objectMapper, dispatcher,
+                mock(ApplicationEventPublisher.class), 2, Duration.ofMillis(200), Duration.ofSeconds(1));
+    }
+
+    // Redis 가 복구되면 실패했던 이벤트를 발행 순서대로 다시 기록
+    @Test
+    void failedAppendsAreSpooledAndRetriedInOrder() throws Exception {
+        when(streamOperations.add(anyRecord()))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(RecordId.autoGenerate());
+
+        publisher.publish(new LikeReceivedEvent(1L, 2L));
+        publisher.publish(new LikeReceivedEvent(3L, 4L));
+
+        // 두 번째 이벤트는 backoff 동안 기록을 시도하지 않고 첫 번째 뒤에 쌓임
+        verify(streamOperations, times(1)).add(anyRecord());
+        assertThat(publisher.spooledCount()).isEqualTo(2);
+
+        publisher.retrySpooled();
+        assertThat(publisher.spooledCount()).isEqualTo(2);
+
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            publisher.retrySpooled();
+            assertThat(publisher.spooledCount()).isZero();
+        });
+
+        assertThat(appendedPayloads()).containsExactly(
+                payload(new LikeReceivedEvent(1L, 2L)),
+                payload(new LikeReceivedEvent(1L, 2L)),
+                payload(new LikeReceivedEvent(3L, 4L)));
+        verify(dispatcher, atLeastOnce()).wakeUp();
+    }
+
+    @Test
+    void fullSpoolDropsOldestEvent() throws Exception {
+        when(streamOperations.add(anyRecord()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        publisher.publish(new LikeReceivedEvent(1L, 2L));
+        publisher.publish(new LikeReceivedEvent(3L, 4L));
+        publisher.publish(new LikeReceivedEvent(5L, 6L));
+        assertThat(publisher.spooledCount()).isEqualTo(2);
+
+        when(streamOperations.add(anyRecord())).thenReturn(RecordId.autoGenerate());
+        publisher.drainSpool();
+
+        assertThat(appendedPayloads()).endsWith(
+                payload(new LikeReceivedEvent(3L, 4L)),
+                payload(new LikeReceivedEvent(5L, 6L)));
+        assertThat(publisher.spooledCount()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> appendedPayloads() {
+        ArgumentCaptor<MapRecord<String, Object, Object>> captor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations, atLeastOnce()).add(captor.capture());
+        return captor.getAllValues().stream()
+                .map(record -> record.getValue().get(DomainEventDispatcher.PAYLOAD_FIELD))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MapRecord<String, Object, Object> anyRecord() {
+        return any(MapRecord.class);
+    }
+
+    private String payload(DomainEvent event) throws Exception {
+        return objectMapper.writeValueAsString(event);
+    }
+}
@@ -0,0 +1,58 @@
+package com.dating.common.id;
+
+import com.dating.support.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NodeIdLeaseTest extends IntegrationTest {
+
+    private static final long MAX_NODE_ID = 3;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of("node-id:lease:0", "node-id:lease:1", "node-id:lease:2", "node-id:lease:3"));
+    }
+
+    @Test
+    void nodesLeaseDistinctIdsAndFailWhenExhausted() {
+        Set<Long> nodeIds = new HashSet<>();
+        for (int i = 0; i <= MAX_NODE_ID; i++) {
+            nodeIds.add(lease().acquire(MAX_NODE_ID));
+        }
+
+        assertThat(nodeIds).containsExactlyInAnyOrder(0L, 1L, 2L, 3L);
+        assertThatThrownBy(() -> lease().acquire(MAX_NODE_ID)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void leaseTakenByAnotherNodeStopsIdGeneration() {
+        NodeIdLease lease = lease();
+        long nodeId = lease.acquire(MAX_NODE_ID);
+        lease.renew();
+        assertThat(lease.isValid()).isTrue();
+
+        stringRedisTemplate.opsForValue().set("node-id:lease:" + nodeId, "other-node");
+        lease.renew();
+
+        assertThat(lease.isValid()).isFalse();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(String.valueOf(nodeId), lease);
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    private NodeIdLease lease() {
+        return new NodeIdLease(stringRedisTemplate, Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,52 @@
+package com.dating.common.security;
+
+import com.dating.support.IntegrationTest;
+import com.dating.support.SqlStatementCounter;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 토큰의 profileId 클레임으로 인증하므로 인증 자체에는 SQL 이 없어야 함
+class AuthenticatedRequestStatementCountTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Test
+    void profileClaimNeedsNoLookup() throws Exception {
+        Member me = fixtures.signup();
+
+        // 내 채팅방 목록은 조회 쿼리 하나
+        assertThat(countStatements("Bearer " + me.accessToken())).isEqualTo(1);
+    }
+
+    @Test
+    void tokenWithoutProfileClaimLooksUpIdOnce() throws Exception {
+        Member me = fixtures.signup();
+        String tokenBeforeProfile = jwtTokenProvider.createAccessToken(me.userId(), null);
+
+        assertThat(countStatements("Bearer " + tokenBeforeProfile)).isEqualTo(2);
+    }
+
+    private int countStatements(String authorization) throws Exception {
+        statementCounter.reset();
+        mockMvc.perform(get("/api/v1/chat/rooms").header("Authorization", authorization))
+                .andExpect(status().isOk());
+        return statementCounter.count();
+    }
+}
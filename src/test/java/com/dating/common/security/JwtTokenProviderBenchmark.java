@@ -0,0 +1,50 @@
+package com.dating.common.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 호출되는 토큰 인증 비용: 검증 캐시 hit (authenticate) 와 매번 서명 검증 + 파싱 (getUserIdFromToken)
+// 실행: ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long-for-hs256";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(14), 100_000);
+        token = jwtTokenProvider.createAccessToken(1L, 1L);
+        jwtTokenProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public Optional<AuthUser> cachedAuthenticate() {
+        return jwtTokenProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public Long parseAndVerify() {
+        return jwtTokenProvider.getUserIdFromToken(token);
+    }
+}
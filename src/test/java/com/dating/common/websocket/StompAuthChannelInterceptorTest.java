@@ -0,0 +1,136 @@
+package com.dating.common.websocket;
+
+import com.dating.chat.dto.ChatMessageRequest;
+import com.dating.chat.service.ChatService;
+import com.dating.common.exception.BusinessException;
+import com.dating.common.exception.ErrorCode;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StompAuthChannelInterceptorTest extends IntegrationTest {
+
+    @Autowired
+    private StompAuthChannelInterceptor interceptor;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Member me;
+    private Long myRoomId;
+    private Long otherRoomId;
+    private Map<String, Object> session;
+
+    @BeforeEach
+    void setUp() {
+        me = fixtures.signup();
+        myRoomId = fixtures.chatRoomBetween(me, fixtures.signup());
+        otherRoomId = fixtures.chatRoomBetween(fixtures.signup(), fixtures.signup());
+        session = new HashMap<>();
+
+        StompHeaderAccessor connect = accessor(StompCommand.CONNECT, null);
+        connect.addNativeHeader("Authorization", me.bearer());
+        interceptor.preSend(message(connect), null);
+    }
+
+    @Test
+    void memberCanSubscribeAndSendToOwnRoom() {
+        assertAllowed(StompCommand.SUBSCRIBE, "/topic/chat/" + myRoomId);
+        assertAllowed(StompCommand.SUBSCRIBE, "/topic/chat/" + myRoomId + "/read");
+        assertAllowed(StompCommand.SUBSCRIBE, "/user/queue/matches");
+        assertAllowed(StompCommand.SEND, "/app/chat/" + myRoomId + "/send");
+    }
+
+    @Test
+    void otherRoomIsDenied() {
+        assertDenied(StompCommand.SUBSCRIBE, "/topic/chat/" + otherRoomId, ErrorCode.CHAT_ACCESS_DENIED);
+        assertDenied(StompCommand.SEND, "/app/chat/" + otherRoomId + "/send", ErrorCode.CHAT_ACCESS_DENIED);
+    }
+
+    // AntPathMatcher 는 이 destination 들을 방 번호나 여러 방으로 해석함
+    @Test
+    void nonCanonicalDestinationsAreDenied() {
+        for (String destination : new String[]{
+                "/topic/chat/*", "/topic/chat/**", "/topic/chat/{roomId}", "/topic/chat/" + otherRoomId + "?",
+                "/topic/chat/+" + otherRoomId, "/topic/chat/0" + otherRoomId, "/topic/chat/#" + otherRoomId,
+                "/topic/chat/" + otherRoomId + "/read/", "/topic/matches", "/topic/chat/99999999999999999999"}) {
+            assertDenied(StompCommand.SUBSCRIBE, destination, ErrorCode.FORBIDDEN);
+        }
+        for (String destination : new String[]{
+                "/app/chat/+" + otherRoomId + "/send", "/app/chat/0x" + Long.toHexString(otherRoomId) + "/send",
+                "/app/chat/" + otherRoomId + "/send/", "/app/chat/" + otherRoomId}) {
+            assertDenied(StompCommand.SEND, destination, ErrorCode.FORBIDDEN);
+        }
+    }
+
+    @Test
+    void clientCannotSendToBrokerDestinations() {
+        assertDenied(StompCommand.SEND, "/topic/chat/" + myRoomId, ErrorCode.FORBIDDEN);
+        assertDenied(StompCommand.SEND, "/queue/matches", ErrorCode.FORBIDDEN);
+    }
+
+    // 다른 사용자의 매칭 / 좋아요 queue 로 가짜 이벤트를 보낼 수 없음
+    @Test
+    void clientCannotSendToUserDestinations() {
+        assertDenied(StompCommand.SEND, "/user/" + me.userId() + "/queue/matches", ErrorCode.FORBIDDEN);
+        assertDenied(StompCommand.SEND, "/user/queue/matches", ErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    void sendMessageRechecksMembership() {
+        Member outsider = fixtures.signup();
+
+        assertThatThrownBy(() -> chatService.sendMessage(outsider.userId(), myRoomId,
+                new ChatMessageRequest("hi", null)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode())
+                                .isEqualTo(ErrorCode.CHAT_ACCESS_DENIED));
+    }
+
+    private void assertAllowed(StompCommand command, String destination) {
+        assertThatCode(() -> interceptor.preSend(message(accessor(command, destination)), null))
+                .doesNotThrowAnyException();
+    }
+
+    private void assertDenied(StompCommand command, String destination, ErrorCode errorCode) {
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor(command, destination)), null))
+                .as(command + " " + destination)
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(errorCode));
+    }
+
+    private StompHeaderAccessor accessor(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-" + me.userId());
+        accessor.setSessionAttributes(session);
+        if (command == StompCommand.SUBSCRIBE) {
+            accessor.setSubscriptionId("sub-1");
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
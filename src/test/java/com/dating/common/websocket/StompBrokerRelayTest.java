@@ -0,0 +1,141 @@
+package com.dating.common.websocket;
+
+import com.dating.support.IntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 같은 Redis 를 쓰는 두 노드를 만들어, 한 노드의 발행이 구독자가 있는 다른 노드의 로컬 브로커로 전달되는지 확인
+class StompBrokerRelayTest extends IntegrationTest {
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    private Node publisher;
+    private Node subscriber;
+
+    @BeforeEach
+    void setUp() {
+        publisher = node();
+        subscriber = node();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void topicMessageReachesOnlyNodeWithSubscriber() {
+        String destination = "/topic/chat/" + UUID.randomUUID();
+        subscriber.relay.onSubscribe(subscribeEvent("s1", "sub-1", destination, null));
+
+        awaitDelivery(destination, subscriber);
+        verify(publisher.messagingTemplate, never()).convertAndSend(eq(destination), any(Object.class), anyMap());
+    }
+
+    @Test
+    void userMessageReachesNodeWhereUserIsSubscribed() {
+        String userId = String.valueOf(System.nanoTime());
+        subscriber.relay.onSubscribe(subscribeEvent("s1", "sub-1", "/user/queue/matches", () -> userId));
+
+        String destination = "/user/" + userId + "/queue/matches";
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            publisher.relay.publish(destination, Map.of("type", "MATCH"));
+            verify(subscriber.messagingTemplate, atLeastOnce())
+                    .convertAndSend(eq(destination), any(Object.class), anyMap());
+        });
+    }
+
+    @Test
+    void disconnectStopsRelayingToNode() {
+        String destination = "/topic/chat/" + UUID.randomUUID();
+        subscriber.relay.onSubscribe(subscribeEvent("s1", "sub-1", destination, null));
+        awaitDelivery(destination, subscriber);
+
+        subscriber.relay.onDisconnect(new SessionDisconnectEvent(this, disconnectMessage("s1"), "s1", CloseStatus.NORMAL));
+        await().atMost(Duration.ofSeconds(5)).until(() -> subscriberCount(destination) == 0);
+    }
+
+    private void awaitDelivery(String destination, Node node) {
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            publisher.relay.publish(destination, Map.of("content", "hello"));
+            verify(node.messagingTemplate, atLeastOnce()).convertAndSend(eq(destination), any(Object.class), anyMap());
+        });
+    }
+
+    // PUBLISH 는 메시지를 받은 구독 채널 수를 돌려줌
+    private long subscriberCount(String destination) {
+        Long receivers = stringRedisTemplate.convertAndSend("stomp:" + destination, "{}");
+        return receivers != null ? receivers : 0;
+    }
+
+    private Node node() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        return new Node(new StompBrokerRelay(stringRedisTemplate, container, messagingTemplate, objectMapper),
+                messagingTemplate);
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String destination,
+                                                 Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), user);
+    }
+
+    private static Message<byte[]> disconnectMessage(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private record Node(StompBrokerRelay relay, SimpMessagingTemplate messagingTemplate) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.dating.common.websocket;
+
+import com.dating.support.BenchmarkEnvironment;
+import com.dating.support.StompTestClient;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 실제 WebSocket 으로 접속한 STOMP 클라이언트 clients 명 (채팅방 clients / 2 개, 두 참여자 모두 방 topic 구독)
+// 한 쪽이 /app/chat/{roomId}/send 로 보낸 메시지가 상대에게 /topic/chat/{roomId} 로 도착할 때까지의 시간
+// (저장 -> 커밋 후 Redis relay -> simple broker -> outbound 채널 전체 경로)
+// Throughput 은 초당 전달 수, SampleTime 은 전달 지연 백분위 (p50 / p90 / p99 ...)
+// 같은 부하에서 매칭 / 채팅 HTTP 엔드포인트 (후보 목록, 메시지 히스토리) 도 함께 측정
+// threads=virtual 은 virtual-threads 프로필 (Tomcat 요청 / @Async / STOMP inbound 를 가상 스레드로) 로 기동하며 JDK 21 이상 필요
+// 실행: ./gradlew jmh -Pjmh.includes=StompDeliveryBenchmark (수천 명은 -p clients=2000, 가입에 수 분 소요)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+public class StompDeliveryBenchmark {
+
+    private static final long DELIVERY_TIMEOUT_MILLIS = 10_000;
+    private static final long SUBSCRIBE_CHECK_TIMEOUT_MILLIS = 1_000;
+    private static final int SUBSCRIBE_CHECK_ATTEMPTS = 10;
+
+    @Param({"200"})
+    public int clients;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private final List<StompTestClient> connections = new ArrayList<>();
+    private final List<Room> rooms = new ArrayList<>();
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong roomSequence = new AtomicLong();
+    private final AtomicLong messageSequence = new AtomicLong();
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private BenchmarkEnvironment environment;
+    private WebSocketStompClient stompClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if (threads.equals("virtual")) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("threads=virtual needs JDK 21+, running on " + Runtime.version());
+            }
+            environment = BenchmarkEnvironment.start("spring.profiles.active=virtual-threads");
+        } else {
+            environment = BenchmarkEnvironment.start();
+        }
+        stompClient = StompTestClient.newStompClient();
+        TestFixtures fixtures = environment.createBean(TestFixtures.class);
+
+        for (int i = 0; i < clients / 2; i++) {
+            Member sender = fixtures.signup();
+            Member receiver = fixtures.signup();
+            Long chatRoomId = fixtures.chatRoomBetween(sender, receiver);
+            StompTestClient senderClient = connect(sender, chatRoomId);
+            connect(receiver, chatRoomId);
+            rooms.add(new Room(chatRoomId, senderClient, sender.accessToken(), receiver.userId()));
+        }
+
+        // 구독 등록은 비동기이므로 방마다 한 번 전달될 때까지 재시도
+        for (Room room : rooms) {
+            awaitSubscribed(room);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connections.forEach(StompTestClient::close);
+        stompClient.stop();
+        environment.close();
+    }
+
+    @Benchmark
+    public void chatMessage() throws Exception {
+        Room room = nextRoom();
+        deliver(room, DELIVERY_TIMEOUT_MILLIS);
+    }
+
+    @Benchmark
+    public void candidatesRequest() throws Exception {
+        Room room = nextRoom();
+        get("/api/v1/matches/candidates?size=20", room.senderAccessToken());
+    }
+
+    @Benchmark
+    public void chatHistoryRequest() throws Exception {
+        Room room = nextRoom();
+        get("/api/v1/chat/rooms/" + room.chatRoomId() + "/messages/history?size=30", room.senderAccessToken());
+    }
+
+    private Room nextRoom() {
+        return rooms.get((int) (roomSequence.getAndIncrement() % rooms.size()));
+    }
+
+    private void get(String path, String accessToken) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + environment.port() + path))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+    }
+
+    private StompTestClient connect(Member member, Long chatRoomId) throws Exception {
+        StompTestClient client = StompTestClient.connect(stompClient, environment.port(), member.accessToken());
+        client.subscribe("/topic/chat/" + chatRoomId, receivedBy(member.userId()));
+        connections.add(client);
+        return client;
+    }
+
+    private Consumer<JsonNode> receivedBy(Long userId) {
+        return message -> {
+            CompletableFuture<Void> delivered = pending.remove(key(userId, message.path("content").asText()));
+            if (delivered != null) {
+                delivered.complete(null);
+            }
+        };
+    }
+
+    private void deliver(Room room, long timeoutMillis) throws Exception {
+        String content = "bench-" + messageSequence.incrementAndGet();
+        String key = key(room.receiverUserId(), content);
+        CompletableFuture<Void> delivered = new CompletableFuture<>();
+        pending.put(key, delivered);
+        try {
+            room.sender().send("/app/chat/" + room.chatRoomId() + "/send", Map.of("content", content, "type", "TEXT"));
+            delivered.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } finally {
+            pending.remove(key);
+        }
+    }
+
+    private void awaitSubscribed(Room room) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                deliver(room, SUBSCRIBE_CHECK_TIMEOUT_MILLIS);
+                return;
+            } catch (TimeoutException e) {
+                if (attempt == SUBSCRIBE_CHECK_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static String key(Long userId, String content) {
+        return userId + ":" + content;
+    }
+
+    private record Room(Long chatRoomId, StompTestClient sender, String senderAccessToken, Long receiverUserId) {
+    }
+}
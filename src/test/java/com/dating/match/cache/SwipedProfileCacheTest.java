@@ -0,0 +1,59 @@
+package com.dating.match.cache;
+
+import com.dating.match.repository.MatchRepository;
+import com.dating.match.repository.MatchSwipeRepository;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwipedProfileCacheTest extends IntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MatchSwipeRepository matchSwipeRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    // 두 노드가 같은 프로필의 스와이프를 각각 처리해도, 새로 적재하는 노드는 둘 다 보아야 함
+    @Test
+    void concurrentAddsOnDifferentNodesAreNotLost() {
+        Member me = fixtures.signup();
+        Member first = fixtures.signup();
+        Member second = fixtures.signup();
+
+        SwipedProfileCache nodeA = newNode();
+        SwipedProfileCache nodeB = newNode();
+        assertThat(nodeA.isSwiped(me.profileId(), first.profileId())).isFalse();
+        assertThat(nodeB.isSwiped(me.profileId(), second.profileId())).isFalse();
+
+        matchSwipeRepository.pass(me.profileId(), first.profileId(), LocalDateTime.now());
+        nodeA.add(me.profileId(), first.profileId());
+        matchSwipeRepository.pass(me.profileId(), second.profileId(), LocalDateTime.now());
+        nodeB.add(me.profileId(), second.profileId());
+
+        assertThat(nodeA.isSwiped(me.profileId(), first.profileId())).isTrue();
+        assertThat(nodeB.isSwiped(me.profileId(), second.profileId())).isTrue();
+
+        SwipedProfileCache nodeC = newNode();
+        assertThat(nodeC.isSwiped(me.profileId(), first.profileId())).isTrue();
+        assertThat(nodeC.isSwiped(me.profileId(), second.profileId())).isTrue();
+    }
+
+    private SwipedProfileCache newNode() {
+        return new SwipedProfileCache(matchRepository, redisTemplate, 100, Duration.ofMinutes(1));
+    }
+}
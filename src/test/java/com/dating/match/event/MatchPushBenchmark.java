@@ -0,0 +1,202 @@
+package com.dating.match.event;
+
+import com.dating.match.service.MatchService;
+import com.dating.support.BenchmarkEnvironment;
+import com.dating.support.StompTestClient;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// 접속한 clients 명이 모두 /user/queue/matches 를 구독하고, op 마다 아직 매칭되지 않은 두 명이 서로 좋아요
+// - push: 먼저 좋아요한 쪽이 MATCH_CREATED 를 받을 때까지 (요청 0)
+// - poll: 푸시 대신 poll-interval-ms 마다 GET /api/v1/matches 로 매칭을 발견할 때까지 (polls 에 호출 수)
+// 폴링은 매칭이 없어도 clients / poll-interval 요청/초가 계속 발생하므로, polls 는 매칭을 발견하는 데 쓴 몫만 보여줌
+// 실행: ./gradlew jmh -Pjmh.includes=MatchPushBenchmark (op 마다 쌍을 하나씩 소모하므로 오래 돌리면 clients 를 늘림)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class MatchPushBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final long DELIVERY_TIMEOUT_MILLIS = 10_000;
+    private static final String MATCH_DESTINATION = "/user/queue/matches";
+
+    @Param({"400"})
+    public int clients;
+
+    @Param({"1000"})
+    public long pollIntervalMillis;
+
+    private final List<Member> members = new ArrayList<>();
+    private final List<StompTestClient> connections = new ArrayList<>();
+    private final List<int[]> pairs = new ArrayList<>();
+    private final AtomicInteger pairSequence = new AtomicInteger();
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private BenchmarkEnvironment environment;
+    private WebSocketStompClient stompClient;
+    private MatchService matchService;
+
+    // JMH 가 반복마다 스레드별 값을 합산해 출력
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Requests {
+
+        public long polls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            polls = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        environment = BenchmarkEnvironment.start();
+        stompClient = StompTestClient.newStompClient();
+        matchService = environment.getBean(MatchService.class);
+        TestFixtures fixtures = environment.createBean(TestFixtures.class);
+
+        for (int i = 0; i < clients; i++) {
+            Member member = fixtures.signup();
+            StompTestClient client = StompTestClient.connect(stompClient, environment.port(), member.accessToken());
+            client.subscribe(MATCH_DESTINATION, receivedBy(member.userId()));
+            members.add(member);
+            connections.add(client);
+        }
+
+        for (int i = 0; i < clients; i++) {
+            for (int j = i + 1; j < clients; j++) {
+                pairs.add(new int[]{i, j});
+            }
+        }
+        Collections.shuffle(pairs, new Random(42));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connections.forEach(StompTestClient::close);
+        stompClient.stop();
+        environment.close();
+    }
+
+    @Benchmark
+    public void push() throws Exception {
+        int[] pair = nextPair();
+        Member first = members.get(pair[0]);
+        Member second = members.get(pair[1]);
+        String key = key(first.userId(), second.profileId());
+        CompletableFuture<Void> delivered = new CompletableFuture<>();
+        pending.put(key, delivered);
+        try {
+            matchService.like(first.profileId(), second.profileId());
+            matchService.like(second.profileId(), first.profileId());
+            delivered.get(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } finally {
+            pending.remove(key);
+        }
+    }
+
+    // 클라이언트마다 폴링 주기의 위상이 다르므로 첫 호출은 주기 안의 임의 시점
+    @Benchmark
+    public void poll(Requests requests) throws Exception {
+        int[] pair = nextPair();
+        Member first = members.get(pair[0]);
+        Member second = members.get(pair[1]);
+        matchService.like(first.profileId(), second.profileId());
+        matchService.like(second.profileId(), first.profileId());
+
+        Thread.sleep(ThreadLocalRandom.current().nextLong(pollIntervalMillis));
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MILLIS;
+        while (true) {
+            requests.polls++;
+            if (hasMatchWith(first, second.profileId())) {
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Match not visible to polling client within timeout");
+            }
+            Thread.sleep(pollIntervalMillis);
+        }
+    }
+
+    private int[] nextPair() {
+        int index = pairSequence.getAndIncrement();
+        if (index >= pairs.size()) {
+            throw new IllegalStateException("All " + pairs.size() + " pairs are matched, increase -p clients");
+        }
+        return pairs.get(index);
+    }
+
+    private Consumer<JsonNode> receivedBy(Long userId) {
+        return event -> {
+            if (!"MATCH_CREATED".equals(event.path("type").asText())) {
+                return;
+            }
+            CompletableFuture<Void> delivered = pending.remove(key(userId, event.path("profileId").asLong()));
+            if (delivered != null) {
+                delivered.complete(null);
+            }
+        };
+    }
+
+    private boolean hasMatchWith(Member member, Long partnerProfileId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + environment.port() + "/api/v1/matches?size=20"))
+                .header("Authorization", "Bearer " + member.accessToken())
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/v1/matches returned " + response.statusCode());
+        }
+        for (JsonNode match : OBJECT_MAPPER.readTree(response.body()).path("data").path("matches")) {
+            if (match.path("partnerProfileId").asLong() == partnerProfileId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String key(Long userId, Long partnerProfileId) {
+        return userId + ":" + partnerProfileId;
+    }
+}
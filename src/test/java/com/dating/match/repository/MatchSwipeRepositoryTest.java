@@ -0,0 +1,52 @@
+package com.dating.match.repository;
+
+import com.dating.match.repository.MatchSwipeRepository.SwipeResult;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchSwipeRepositoryTest extends IntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private MatchSwipeRepository matchSwipeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void mutualLikeMatchesAndStampsMatchedAt() {
+        Member first = fixtures.signup();
+        Member second = fixtures.signup();
+
+        SwipeResult firstLike = matchSwipeRepository.like(first.profileId(), second.profileId(), LocalDateTime.now());
+        SwipeResult secondLike = matchSwipeRepository.like(second.profileId(), first.profileId(), LocalDateTime.now());
+
+        assertThat(firstLike.matched()).isFalse();
+        assertThat(secondLike.matched()).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT matched_at IS NOT NULL FROM matches WHERE id = ?",
+                Boolean.class, secondLike.id())).isTrue();
+    }
+
+    @Test
+    void repeatedSwipeIsNotInserted() {
+        Member first = fixtures.signup();
+        Member second = fixtures.signup();
+
+        matchSwipeRepository.like(first.profileId(), second.profileId(), LocalDateTime.now());
+
+        assertThat(matchSwipeRepository.like(first.profileId(), second.profileId(), LocalDateTime.now()).inserted())
+                .isFalse();
+        assertThat(matchSwipeRepository.pass(first.profileId(), second.profileId(), LocalDateTime.now()).inserted())
+                .isFalse();
+    }
+}
@@ -0,0 +1,118 @@
+package com.dating.match.service;
+
+import com.dating.match.repository.CandidateArea;
+import com.dating.match.repository.CandidateQueryRepository;
+import com.dating.profile.domain.Profile;
+import com.dating.profile.repository.ProfileRepository;
+import com.dating.profile.service.ProfileGeoIndexer;
+import com.dating.support.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 합성 프로필 N 명 (남한 정도 넓이에 고르게 분포) 에서 반경 50km 후보 20 명 조회
+// - geoAndBitmap: CandidateFinder (GEO 반경 -> keyset 조회 -> swiped bitmap, 부족하면 anti-join)
+//   10만 명이면 반경 안이 max-nearby 보다 적어 GEO id 목록으로, 100만 명이면 좌표 범위로 거름
+// - antiJoinBoundingBox: GEO 없이 좌표 범위 + anti-join 만으로 조회
+// - antiJoinAnywhere: 거리 조건 없이 나이 + anti-join 만 적용한 이전 스캔
+// 실행: ./gradlew jmh -Pjmh.includes=CandidateFinderBenchmark (100만 명은 데이터 생성에 수 분 소요)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandidateFinderBenchmark {
+
+    private static final double CENTER_LATITUDE = 36.0;
+    private static final double CENTER_LONGITUDE = 127.8;
+    private static final int SWIPED = 1_000;
+    private static final int LIMIT = 20;
+
+    @Param({"100000", "1000000"})
+    public int profiles;
+
+    private BenchmarkEnvironment environment;
+    private CandidateFinder candidateFinder;
+    private CandidateQueryRepository candidateQueryRepository;
+    private Profile viewer;
+    private CandidateArea boundingBox;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        environment = BenchmarkEnvironment.start();
+        JdbcTemplate jdbcTemplate = environment.jdbcTemplate();
+        generateProfiles(jdbcTemplate);
+
+        Long viewerId = jdbcTemplate.queryForObject("SELECT min(id) FROM profiles", Long.class);
+        jdbcTemplate.update("UPDATE profiles SET latitude = ?, longitude = ? WHERE id = ?",
+                CENTER_LATITUDE, CENTER_LONGITUDE, viewerId);
+        viewer = environment.getBean(ProfileRepository.class).findById(viewerId).orElseThrow();
+        boundingBox = CandidateArea.boundingBox(CENTER_LATITUDE, CENTER_LONGITUDE, viewer.getMaxDistance());
+
+        // 반경 안의 프로필 일부를 이미 스와이프한 사용자
+        jdbcTemplate.update("""
+                INSERT INTO matches (from_profile_id, to_profile_id, action, is_matched, created_at)
+                SELECT ?, id, 'PASS', false, now() FROM profiles
+                WHERE id <> ? AND latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ?
+                ORDER BY random() LIMIT ?
+                """, viewerId, viewerId, boundingBox.minLatitude(), boundingBox.maxLatitude(),
+                boundingBox.minLongitude(), boundingBox.maxLongitude(), SWIPED);
+        jdbcTemplate.execute("ANALYZE");
+
+        environment.getBean(ProfileGeoIndexer.class).rebuild();
+        candidateFinder = environment.getBean(CandidateFinder.class);
+        candidateQueryRepository = environment.getBean(CandidateQueryRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+
+    @Benchmark
+    public List<Long> geoAndBitmap() {
+        return candidateFinder.findCandidateIds(viewer, null, LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> antiJoinBoundingBox() {
+        return candidateQueryRepository.findUnswipedCandidateIds(viewer, boundingBox, null, LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> antiJoinAnywhere() {
+        return candidateQueryRepository.findUnswipedCandidateIds(viewer, CandidateArea.anywhere(), null, LIMIT);
+    }
+
+    private void generateProfiles(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, status, created_at, updated_at)
+                SELECT 'bench-' || g || '@test.com', 'x', 'ACTIVE', now(), now()
+                FROM generate_series(1, ?) g
+                """, profiles);
+        jdbcTemplate.update("""
+                INSERT INTO profiles (user_id, nickname, birth_date, gender, latitude, longitude,
+                                      min_age_preference, max_age_preference, max_distance, created_at, updated_at)
+                SELECT id, 'bench-' || id, DATE '1980-01-01' + (random() * 9000)::int,
+                       CASE WHEN random() < 0.5 THEN 'MALE' ELSE 'FEMALE' END,
+                       34.0 + random() * 4.0, 126.3 + random() * 3.0,
+                       18, 99, 50, now(), now()
+                FROM users
+                """);
+    }
+}
@@ -0,0 +1,81 @@
+package com.dating.match.service;
+
+import com.dating.profile.domain.Profile;
+import com.dating.profile.repository.ProfileRepository;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandidateFinderTest extends IntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CandidateFinder candidateFinder;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Test
+    void nearbyCandidatesSkipSwipedOutOfAgeAndBeforeCursor() {
+        double latitude = ThreadLocalRandom.current().nextDouble(-60, 60);
+        double longitude = ThreadLocalRandom.current().nextDouble(-170, 170);
+        LocalDate birthDate = LocalDate.of(1995, 1, 1);
+
+        Member me = fixtures.signup(birthDate, latitude, longitude);
+        List<Long> nearbyIds = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            nearbyIds.add(fixtures.signup(birthDate, latitude + i * 0.001, longitude).profileId());
+        }
+        // 나이 조건 (기본 18~99세) 밖
+        fixtures.signup(LocalDate.now().minusYears(10), latitude + 0.001, longitude);
+        matchService.pass(me.profileId(), nearbyIds.get(1));
+        matchService.like(me.profileId(), nearbyIds.get(4));
+
+        Profile myProfile = profileRepository.findById(me.profileId()).orElseThrow();
+        assertThat(candidateFinder.findCandidateIds(myProfile, null, 2))
+                .containsExactly(nearbyIds.get(0), nearbyIds.get(2));
+        assertThat(candidateFinder.findCandidateIds(myProfile, nearbyIds.get(2), 20))
+                .containsExactly(nearbyIds.get(3), nearbyIds.get(5));
+    }
+
+    @Test
+    void candidatesBeyondMaxNearbyStayReachable() {
+        // 다른 테스트 데이터와 겹치지 않는 임의 위치
+        double latitude = ThreadLocalRandom.current().nextDouble(-60, 60);
+        double longitude = ThreadLocalRandom.current().nextDouble(-170, 170);
+        LocalDate birthDate = LocalDate.of(1995, 1, 1);
+
+        Member me = fixtures.signup(birthDate, latitude, longitude);
+        List<Long> nearbyIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            nearbyIds.add(fixtures.signup(birthDate, latitude + i * 0.001, longitude).profileId());
+        }
+        // 반경 밖 프로필은 좌표 범위로도 걸러져야 함
+        fixtures.signup(birthDate, latitude + 5, longitude);
+
+        Profile myProfile = profileRepository.findById(me.profileId()).orElseThrow();
+        int maxNearby = (int) ReflectionTestUtils.getField(candidateFinder, "maxNearby");
+        ReflectionTestUtils.setField(candidateFinder, "maxNearby", 2);
+        try {
+            assertThat(candidateFinder.findCandidateIds(myProfile, null, 20))
+                    .containsExactlyInAnyOrderElementsOf(nearbyIds);
+        } finally {
+            ReflectionTestUtils.setField(candidateFinder, "maxNearby", maxNearby);
+        }
+    }
+}
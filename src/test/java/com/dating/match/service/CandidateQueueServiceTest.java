@@ -0,0 +1,138 @@
+package com.dating.match.service;
+
+import com.dating.match.cache.SwipedProfileCache;
+import com.dating.profile.domain.Profile;
+import com.dating.profile.dto.UpdateProfileRequest;
+import com.dating.profile.repository.ProfileRepository;
+import com.dating.profile.service.ProfileService;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CandidateQueueServiceTest extends IntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CandidateQueueService candidateQueueService;
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private CandidateFinder candidateFinder;
+
+    @Autowired
+    private SwipedProfileCache swipedProfileCache;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void preferenceChangeClearsQueueOnlyAfterCommit() {
+        fixtures.signup();
+        Member me = fixtures.signup();
+        fill(me);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            profileService.updateProfile(me.profileId(), preferences(30));
+            assertThat(queueSize(me)).isPositive();
+        });
+        assertThat(queueSize(me)).isZero();
+
+        // 무효화 이후 시작한 refill 은 다시 채울 수 있어야 함
+        fill(me);
+    }
+
+    @Test
+    void rolledBackPreferenceChangeKeepsQueue() {
+        fixtures.signup();
+        Member me = fixtures.signup();
+        fill(me);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            profileService.updateProfile(me.profileId(), preferences(40));
+            status.setRollbackOnly();
+        });
+        assertThat(queueSize(me)).isPositive();
+    }
+
+    @Test
+    void missLookupAdvancesCursor() {
+        Member other = fixtures.signup();
+        Member me = fixtures.signup();
+        CandidateQueueService service = newService(candidateFinder);
+
+        assertThat(service.pop(profile(me), 10)).contains(other.profileId());
+        assertThat(stringRedisTemplate.hasKey(cursorKey(me))).isTrue();
+    }
+
+    // 큐 미스 조회 도중 선호 조건이 바뀌어 무효화되면, 조회 결과는 응답에만 쓰고 커서는 옮기지 않음
+    @Test
+    void missLookupBeforeConcurrentInvalidationDoesNotMoveCursor() {
+        Member other = fixtures.signup();
+        Member me = fixtures.signup();
+        CandidateFinder finder = mock(CandidateFinder.class);
+        when(finder.findCandidateIds(any(), any(), anyInt())).thenAnswer(invocation -> {
+            List<Long> stale = candidateFinder.findCandidateIds(
+                    invocation.getArgument(0), invocation.getArgument(1), invocation.<Integer>getArgument(2));
+            candidateQueueService.invalidate(me.profileId());
+            return stale;
+        });
+        CandidateQueueService service = newService(finder);
+
+        assertThat(service.pop(profile(me), 10)).contains(other.profileId());
+        assertThat(stringRedisTemplate.hasKey(cursorKey(me))).isFalse();
+    }
+
+    private CandidateQueueService newService(CandidateFinder finder) {
+        return new CandidateQueueService(finder, swipedProfileCache, profileRepository, stringRedisTemplate,
+                new SimpleMeterRegistry(), 100, 20, Duration.ofHours(1));
+    }
+
+    private Profile profile(Member member) {
+        return profileRepository.findById(member.profileId()).orElseThrow();
+    }
+
+    private static String cursorKey(Member member) {
+        return "candidates:cursor:" + member.profileId();
+    }
+
+    private void fill(Member member) {
+        candidateQueueService.requestRefill(member.profileId());
+        candidateQueueService.refillPendingQueues();
+        // 스케줄러가 먼저 가져가 채우는 중일 수 있음
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(queueSize(member)).isPositive());
+    }
+
+    private long queueSize(Member member) {
+        Long size = stringRedisTemplate.opsForList().size("candidates:" + member.profileId());
+        return size != null ? size : 0;
+    }
+
+    private static UpdateProfileRequest preferences(int maxDistance) {
+        return new UpdateProfileRequest(null, null, null, null, null, null, null, maxDistance, null, null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.dating.match.service;
+
+import com.dating.support.IntegrationTest;
+import com.dating.support.SqlStatementCounter;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 추천 후보 조회는 후보 수 / 테이블 크기와 관계없이 고정된 수의 statement 로 처리되어야 함
+class CandidateStatementCountTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Test
+    void statementCountDoesNotGrowWithPageOrTableSize() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            fixtures.signup(LocalDate.of(1990, 1, 1).plusDays(i), null, null);
+        }
+        int smallPage = countStatements(fixtures.signup(), 5);
+
+        for (int i = 0; i < 30; i++) {
+            fixtures.signup(LocalDate.of(1990, 1, 1).plusDays(i), null, null);
+        }
+        // 캐시가 비어 있는 새 사용자로 측정
+        int largePage = countStatements(fixtures.signup(), 40);
+
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(largePage).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void nonPositiveSizeIsClampedToOne() throws Exception {
+        Member viewer = fixtures.signup();
+        fixtures.signup();
+
+        mockMvc.perform(get("/api/v1/matches/candidates")
+                        .param("cursor", "0")
+                        .param("size", "0")
+                        .header("Authorization", viewer.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+
+        mockMvc.perform(get("/api/v1/matches/candidates")
+                        .param("cursor", "0")
+                        .param("size", "-5")
+                        .header("Authorization", viewer.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+    }
+
+    // cursor 를 넘겨 미리 채운 큐 대신 keyset 조회 경로를 사용
+    private int countStatements(Member viewer, int size) throws Exception {
+        statementCounter.reset();
+        mockMvc.perform(get("/api/v1/matches/candidates")
+                        .param("cursor", "0")
+                        .param("size", String.valueOf(size))
+                        .header("Authorization", viewer.bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(size));
+        return statementCounter.count();
+    }
+}
@@ -0,0 +1,35 @@
+package com.dating.match.service;
+
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MatchListTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void nonPositiveSizeIsClampedToOne() throws Exception {
+        Member me = fixtures.signup();
+        fixtures.chatRoomBetween(me, fixtures.signup());
+        fixtures.chatRoomBetween(me, fixtures.signup());
+
+        for (String size : new String[]{"0", "-3"}) {
+            mockMvc.perform(get("/api/v1/matches").param("size", size).header("Authorization", me.bearer()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.matches.length()").value(1))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+        }
+    }
+}
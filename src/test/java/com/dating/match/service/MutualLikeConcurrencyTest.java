@@ -0,0 +1,89 @@
+package com.dating.match.service;
+
+import com.dating.match.dto.MatchResponse;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MutualLikeConcurrencyTest extends IntegrationTest {
+
+    private static final int PAIRS = 32;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 모든 쌍이 동시에 서로 좋아요를 눌러도 쌍마다 정확히 한 쪽 요청에서만 매칭이 성사되고 두 행 모두 매칭으로 기록
+    @Test
+    void concurrentMutualLikesMatchExactlyOncePerPair() throws Exception {
+        List<Member[]> pairs = new ArrayList<>(PAIRS);
+        for (int i = 0; i < PAIRS; i++) {
+            pairs.add(new Member[]{fixtures.signup(), fixtures.signup()});
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<List<Future<MatchResponse>>> results = new ArrayList<>(PAIRS);
+        try {
+            for (Member[] pair : pairs) {
+                results.add(List.of(
+                        executor.submit(() -> like(start, pair[0], pair[1])),
+                        executor.submit(() -> like(start, pair[1], pair[0]))));
+            }
+            start.countDown();
+
+            for (int i = 0; i < PAIRS; i++) {
+                MatchResponse first = results.get(i).get(0).get(30, TimeUnit.SECONDS);
+                MatchResponse second = results.get(i).get(1).get(30, TimeUnit.SECONDS);
+                assertThat(first.getIsMatched() ^ second.getIsMatched())
+                        .as("exactly one like of pair %d reports the match", i)
+                        .isTrue();
+                assertBothRowsMatched(pairs.get(i)[0], pairs.get(i)[1]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private MatchResponse like(CountDownLatch start, Member from, Member to) throws InterruptedException {
+        start.await();
+        return matchService.like(from.profileId(), to.profileId());
+    }
+
+    private void assertBothRowsMatched(Member first, Member second) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT is_matched, matched_at FROM matches
+                WHERE (from_profile_id = ? AND to_profile_id = ?) OR (from_profile_id = ? AND to_profile_id = ?)
+                """, first.profileId(), second.profileId(), second.profileId(), first.profileId());
+
+        assertThat(rows).hasSize(2).allSatisfy(row -> {
+            assertThat(row.get("is_matched")).isEqualTo(true);
+            assertThat(row.get("matched_at")).isNotNull();
+        });
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT low_liked AND high_liked FROM match_pairs
+                WHERE low_profile_id = LEAST(?, ?) AND high_profile_id = GREATEST(?, ?)
+                """, Boolean.class, first.profileId(), second.profileId(), first.profileId(), second.profileId()))
+                .isTrue();
+    }
+}
@@ -0,0 +1,198 @@
+package com.dating.notification.service;
+
+import com.dating.notification.dto.NotificationRequest;
+import com.dating.notification.repository.FcmTokenRepository;
+import com.dating.notification.sender.FakePushSender;
+import com.dating.notification.sender.PushSendResult;
+import com.dating.notification.sender.PushSender;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// FakePushSender 위에 토큰 이름으로 FCM 응답(UNREGISTERED / 재시도 가능 오류)을 흉내내 발송 파이프라인을 검증
+class NotificationDispatcherTest extends IntegrationTest {
+
+    private static final long BACKOFF_MS = 100;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ScriptedPushSender sender = new ScriptedPushSender();
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void tokensAreSentInChunksOf500() {
+        Long userId = fixtures.signup().userId();
+        List<String> tokens = registerTokens(userId, "ok", 1200);
+        dispatcher = start(10_000, 3);
+
+        dispatcher.enqueue(userId, request("chunked"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> sender.calls.size() == 3);
+        assertThat(sender.calls).extracting(call -> call.tokens().size()).containsExactlyInAnyOrder(500, 500, 200);
+        assertThat(sender.calls).flatExtracting(Call::tokens).containsExactlyInAnyOrderElementsOf(tokens);
+    }
+
+    // worker 가 시작되기 전에 쌓인 요청을 한 번에 가져가도록 enqueue 후 시작
+    @Test
+    void identicalRequestsAreCoalescedAcrossUsers() {
+        List<Long> userIds = IntStream.range(0, 3).mapToObj(i -> fixtures.signup().userId()).toList();
+        List<String> tokens = new ArrayList<>();
+        userIds.forEach(userId -> tokens.addAll(registerTokens(userId, "ok", 1)));
+        dispatcher = new NotificationDispatcher(fcmTokenRepository, sender, 100, 1, 1000, 3, BACKOFF_MS);
+
+        userIds.forEach(userId -> dispatcher.enqueue(userId, request("liked")));
+        dispatcher.enqueue(userIds.get(1), request("liked"));
+        dispatcher.enqueue(userIds.get(0), request("matched"));
+        dispatcher.start();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> sender.calls.size() == 2);
+        assertThat(sender.callsFor(request("liked"))).singleElement()
+                .satisfies(call -> assertThat(call.tokens()).containsExactlyInAnyOrderElementsOf(tokens));
+        assertThat(sender.callsFor(request("matched"))).singleElement()
+                .satisfies(call -> assertThat(call.tokens()).containsExactly(tokens.get(0)));
+    }
+
+    @Test
+    void retryableTokensAreRetriedWithBackoffOnWorkerThreads() throws Exception {
+        Long userId = fixtures.signup().userId();
+        String down = registerTokens(userId, "down", 1).get(0);
+        String flaky = registerTokens(userId, "flaky", 1).get(0);
+        dispatcher = start(10_000, 3);
+
+        dispatcher.enqueue(userId, request("retry"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> sender.calls.size() == 3);
+        assertThat(sender.calls).extracting(Call::tokens).containsExactly(
+                List.of(down, flaky), List.of(down, flaky), List.of(down));
+        // 시도마다 backoff 가 두 배로 늘어남
+        assertThat(sender.calls.get(1).at() - sender.calls.get(0).at())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(BACKOFF_MS));
+        assertThat(sender.calls.get(2).at() - sender.calls.get(1).at())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(BACKOFF_MS * 2));
+        // 재시도 발송은 retry 스레드가 아니라 worker 가 처리
+        assertThat(sender.calls).extracting(Call::thread).allMatch(thread -> thread.startsWith("notification-worker-"));
+
+        // max-attempts 이후에는 더 시도하지 않음
+        Thread.sleep(BACKOFF_MS * 6);
+        assertThat(sender.calls).hasSize(3);
+    }
+
+    @Test
+    void unregisteredTokensArePruned() {
+        Long userId = fixtures.signup().userId();
+        String unregistered = registerTokens(userId, "unregistered", 1).get(0);
+        String registered = registerTokens(userId, "ok", 1).get(0);
+        dispatcher = start(10_000, 3);
+
+        dispatcher.enqueue(userId, request("prune"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> fcmTokenRepository.findByToken(unregistered).isEmpty());
+        assertThat(fcmTokenRepository.findByToken(registered)).isPresent();
+        assertThat(sender.calls).hasSize(1);
+    }
+
+    @Test
+    void notificationsAreDroppedWhenQueueIsFull() throws Exception {
+        Long userId = fixtures.signup().userId();
+        registerTokens(userId, "ok", 1);
+        dispatcher = new NotificationDispatcher(fcmTokenRepository, sender, 2, 1, 1000, 3, BACKOFF_MS);
+
+        assertThat(dispatcher.enqueue(userId, request("first"))).isTrue();
+        assertThat(dispatcher.enqueue(userId, request("second"))).isTrue();
+        assertThat(dispatcher.enqueue(userId, request("third"))).isFalse();
+        dispatcher.start();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> sender.calls.size() == 2);
+        Thread.sleep(200);
+        assertThat(sender.calls).extracting(call -> call.request().getTitle()).containsExactly("first", "second");
+    }
+
+    private NotificationDispatcher start(int queueCapacity, int maxAttempts) {
+        NotificationDispatcher started = new NotificationDispatcher(fcmTokenRepository, sender,
+                queueCapacity, 4, 1000, maxAttempts, BACKOFF_MS);
+        started.start();
+        return started;
+    }
+
+    private List<String> registerTokens(Long userId, String kind, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> tokens = IntStream.range(0, count).mapToObj(i -> kind + "-" + UUID.randomUUID()).toList();
+        jdbcTemplate.batchUpdate("INSERT INTO fcm_tokens (user_id, token, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                tokens, tokens.size(), (ps, token) -> {
+                    ps.setLong(1, userId);
+                    ps.setString(2, token);
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                });
+        return tokens;
+    }
+
+    private static NotificationRequest request(String title) {
+        return new NotificationRequest(title, "body", Map.of());
+    }
+
+    private record Call(List<String> tokens, NotificationRequest request, String thread, long at) {
+    }
+
+    // down-* 은 항상, flaky-* 는 첫 시도만 재시도 가능 오류, unregistered-* 는 UNREGISTERED
+    private static class ScriptedPushSender implements PushSender {
+
+        private final PushSender fake = new FakePushSender(10);
+        private final List<Call> calls = new CopyOnWriteArrayList<>();
+        private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+
+        @Override
+        public PushSendResult send(List<String> tokens, NotificationRequest request) {
+            calls.add(new Call(List.copyOf(tokens), request, Thread.currentThread().getName(), System.nanoTime()));
+            fake.send(tokens, request);
+
+            List<String> unregistered = new ArrayList<>();
+            List<String> retryable = new ArrayList<>();
+            for (String token : tokens) {
+                int attempt = attempts.merge(token, 1, Integer::sum);
+                if (token.startsWith("unregistered-")) {
+                    unregistered.add(token);
+                } else if (token.startsWith("down-") || (token.startsWith("flaky-") && attempt == 1)) {
+                    retryable.add(token);
+                }
+            }
+            return new PushSendResult(tokens.size() - unregistered.size() - retryable.size(), unregistered, retryable);
+        }
+
+        List<Call> callsFor(NotificationRequest request) {
+            return calls.stream().filter(call -> call.request().equals(request)).toList();
+        }
+    }
+}
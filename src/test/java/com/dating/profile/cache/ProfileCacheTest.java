@@ -0,0 +1,98 @@
+package com.dating.profile.cache;
+
+import com.dating.common.datasource.PrimaryReader;
+import com.dating.profile.dto.ProfileResponse;
+import com.dating.profile.repository.ProfileQueryRepository;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfileCacheTest extends IntegrationTest {
+
+    private static final String KEY_PREFIX = "profile:response:";
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProfileQueryRepository profileQueryRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private PrimaryReader primaryReader;
+
+    @Autowired
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProfileCache profileCache;
+
+    @Test
+    void loadedProfileIsCachedInBothLevels() {
+        Member member = fixtures.signup();
+        profileCache.evict(member.profileId());
+        ProfileQueryRepository repository = delegatingRepository();
+        ProfileCache cache = newNode(repository);
+
+        assertThat(cache.get(member.profileId())).isPresent();
+        assertThat(cache.get(member.profileId())).isPresent();
+
+        verify(repository, times(1)).findResponsesByIds(any());
+        assertThat(stringRedisTemplate.hasKey(KEY_PREFIX + member.profileId())).isTrue();
+        assertThat(stringRedisTemplate.getExpire(KEY_PREFIX + member.profileId()))
+                .isBetween(1L, Duration.ofMinutes(10).toSeconds());
+    }
+
+    // DB 를 읽은 직후 다른 요청의 수정이 커밋되어 evict 되면, 읽은 값은 응답에만 쓰고 어느 캐시에도 남기지 않음
+    @Test
+    void profileReadBeforeConcurrentUpdateIsNotCached() {
+        Member member = fixtures.signup();
+        profileCache.evict(member.profileId());
+        ProfileQueryRepository repository = mock(ProfileQueryRepository.class);
+        when(repository.findResponsesByIds(any())).thenAnswer(invocation -> {
+            List<ProfileResponse> stale = profileQueryRepository.findResponsesByIds(invocation.<Collection<Long>>getArgument(0));
+            profileCache.evict(member.profileId());
+            return stale;
+        });
+        ProfileCache cache = newNode(repository);
+
+        assertThat(cache.get(member.profileId())).isPresent();
+
+        assertThat(stringRedisTemplate.hasKey(KEY_PREFIX + member.profileId())).isFalse();
+        cache.get(member.profileId());
+        verify(repository, times(2)).findResponsesByIds(any());
+    }
+
+    private ProfileQueryRepository delegatingRepository() {
+        ProfileQueryRepository repository = mock(ProfileQueryRepository.class);
+        when(repository.findResponsesByIds(any())).thenAnswer(invocation ->
+                profileQueryRepository.findResponsesByIds(invocation.<Collection<Long>>getArgument(0)));
+        return repository;
+    }
+
+    private ProfileCache newNode(ProfileQueryRepository repository) {
+        return new ProfileCache(repository, primaryReader, stringRedisTemplate, listenerContainer, objectMapper,
+                100, Duration.ofMinutes(5), Duration.ofMinutes(10));
+    }
+}
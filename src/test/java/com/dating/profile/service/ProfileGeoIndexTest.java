@@ -0,0 +1,93 @@
+package com.dating.profile.service;
+
+import com.dating.profile.dto.UpdateProfileRequest;
+import com.dating.support.IntegrationTest;
+import com.dating.support.TestFixtures;
+import com.dating.support.TestFixtures.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProfileGeoIndexTest extends IntegrationTest {
+
+    private static final String GEO_KEY = "profiles:geo";
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private ProfileGeoIndexer profileGeoIndexer;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void latitudeOutsideGeoRangeIsRejected() throws Exception {
+        Member me = fixtures.signup();
+
+        mockMvc.perform(patch("/api/v1/profiles/me")
+                        .header("Authorization", me.bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"latitude\": 89.0, \"longitude\": 10.0}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void coordinatesAreIndexedOnlyAfterCommit() {
+        Member me = fixtures.signup();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            profileService.updateProfile(me.profileId(), coordinates(37.5, 127.0));
+            assertThat(position(me)).isNull();
+        });
+        assertThat(position(me)).isNotNull();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            profileService.updateProfile(me.profileId(), coordinates(35.1, 129.0));
+            status.setRollbackOnly();
+        });
+        assertThat(position(me).getY()).isCloseTo(37.5, offset(0.001));
+    }
+
+    @Test
+    void rebuildRestoresIndexFromProfiles() {
+        Member located = fixtures.signup(LocalDate.of(1995, 1, 1), 10.0, 20.0);
+        Member unlocated = fixtures.signup();
+
+        stringRedisTemplate.delete(GEO_KEY);
+        profileGeoIndexer.onStartup();
+
+        assertThat(position(located)).isNotNull();
+        assertThat(position(unlocated)).isNull();
+    }
+
+    private Point position(Member member) {
+        List<Point> positions = stringRedisTemplate.opsForGeo().position(GEO_KEY, String.valueOf(member.profileId()));
+        return positions == null || positions.isEmpty() ? null : positions.get(0);
+    }
+
+    private static UpdateProfileRequest coordinates(double latitude, double longitude) {
+        return new UpdateProfileRequest(null, null, null, latitude, longitude, null, null, null, null, null);
+    }
+}
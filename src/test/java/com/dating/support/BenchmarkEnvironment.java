@@ -0,0 +1,107 @@
+package com.dating.support;
+
+import com.dating.DatingAppApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+// JMH 벤치마크용: 벤치마크마다 내장 PostgreSQL / Redis 를 새로 띄우고 test 프로필로 애플리케이션을 시작 (임의 포트)
+// 통합 테스트와 달리 데이터를 공유하지 않으므로 벤치마크가 대량 데이터를 직접 만들어 사용
+public class BenchmarkEnvironment implements AutoCloseable {
+
+    private static final long WEB_SOCKET_CLOSE_TIMEOUT_MILLIS = 10_000;
+    private static final long WEB_SOCKET_CLOSE_GRACE_MILLIS = 1_000;
+
+    private final EmbeddedPostgres postgres;
+    private final RedisServer redis;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkEnvironment(EmbeddedPostgres postgres, RedisServer redis, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.redis = redis;
+        this.context = context;
+    }
+
+    // properties 는 "key=value" 형식으로 기본 설정을 덮어씀
+    public static BenchmarkEnvironment start(String... properties) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.start();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        // application.yml 보다 우선하도록 커맨드라인 인자로 전달
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisPort,
+                "--server.port=0"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DatingAppApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+        return new BenchmarkEnvironment(postgres, redis, context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // TestFixtures 처럼 컨텍스트에 등록되지 않은 테스트용 컴포넌트를 주입까지 해서 생성
+    public <T> T createBean(Class<T> type) {
+        return context.getAutowireCapableBeanFactory().createBean(type);
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    public int port() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    // 세션 정리가 끝나기 전에 컨텍스트를 닫으면 채널 실행기가 먼저 종료돼 DISCONNECT 처리에서 예외가 남으므로
+    // 벤치마크가 끊은 WebSocket 세션이 모두 정리될 때까지 기다림
+    // (DISCONNECT 로 세션이 정리된 뒤에도 클라이언트의 close frame 이 조금 늦게 도착하므로 잠시 더 기다림)
+    @Override
+    public void close() throws IOException {
+        try {
+            awaitWebSocketSessionsClosed();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        context.close();
+        redis.stop();
+        postgres.close();
+    }
+
+    private void awaitWebSocketSessionsClosed() throws InterruptedException {
+        SubProtocolWebSocketHandler webSocketHandler = context.getBean(SubProtocolWebSocketHandler.class);
+        if (webSocketHandler.getStats().getTotalSessions() == 0) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + WEB_SOCKET_CLOSE_TIMEOUT_MILLIS;
+        while (webSocketHandler.getStats().getWebSocketSessions() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Thread.sleep(WEB_SOCKET_CLOSE_GRACE_MILLIS);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.dating.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+// 테스트 JVM 마다 PostgreSQL / Redis 를 한 번만 띄우고 모든 통합 테스트가 공유 (Docker 불필요)
+// 테스트끼리 데이터를 지우지 않으므로 각 테스트는 TestFixtures 로 자기 데이터를 새로 만들어 사용
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({SqlStatementCounter.class, TestFixtures.class})
+public abstract class IntegrationTest {
+
+    private static final EmbeddedPostgres POSTGRES;
+    private static final RedisServer REDIS;
+    private static final int REDIS_PORT;
+
+    static {
+        try {
+            POSTGRES = EmbeddedPostgres.start();
+            REDIS_PORT = freePort();
+            REDIS = new RedisServer(REDIS_PORT);
+            REDIS.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start embedded PostgreSQL / Redis", e);
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                REDIS.stop();
+                POSTGRES.close();
+            } catch (IOException ignored) {
+            }
+        }));
+    }
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    protected static int redisPort() {
+        return REDIS_PORT;
+    }
+
+    protected static String jdbcUrl() {
+        return POSTGRES.getJdbcUrl("postgres", "postgres");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.dating.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 실제 WebSocket 으로 /ws/chat 에 접속해 JWT 로 CONNECT 하는 STOMP 클라이언트 (부하 측정용)
+// 메시지는 JSON 바이트로 주고받고, 수신한 본문은 JsonNode 로 넘김
+public class StompTestClient implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final long CONNECT_TIMEOUT_SECONDS = 10;
+
+    private final StompSession session;
+
+    private StompTestClient(StompSession session) {
+        this.session = session;
+    }
+
+    public static WebSocketStompClient newStompClient() {
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setInboundMessageSizeLimit(64 * 1024);
+        return stompClient;
+    }
+
+    public static StompTestClient connect(WebSocketStompClient stompClient, int port, String accessToken)
+            throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + accessToken);
+        StompSession session = stompClient.connectAsync("ws://localhost:" + port + "/ws/chat",
+                        new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                        })
+                .get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return new StompTestClient(session);
+    }
+
+    // simple broker 는 RECEIPT 를 보내지 않으므로 구독이 등록됐는지는 호출하는 쪽에서 왕복 전송으로 확인
+    public void subscribe(String destination, Consumer<JsonNode> handler) {
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                try {
+                    handler.accept(OBJECT_MAPPER.readTree((byte[]) payload));
+                } catch (Exception e) {
+                    throw new IllegalStateException("Unreadable STOMP payload from " + destination, e);
+                }
+            }
+        });
+    }
+
+    public void send(String destination, Object payload) throws Exception {
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(destination);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        session.send(headers, OBJECT_MAPPER.writeValueAsBytes(payload));
+    }
+
+    @Override
+    public void close() {
+        if (session.isConnected()) {
+            session.disconnect();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.dating.support;
+
+import com.dating.auth.dto.SignupRequest;
+import com.dating.auth.dto.TokenResponse;
+import com.dating.auth.service.AuthService;
+import com.dating.chat.dto.ChatRoomResponse;
+import com.dating.chat.service.ChatService;
+import com.dating.common.security.JwtTokenProvider;
+import com.dating.match.dto.MatchResponse;
+import com.dating.match.service.MatchService;
+import com.dating.profile.domain.Profile;
+import com.dating.profile.repository.ProfileRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// 실제 가입 / 좋아요 / 채팅방 생성 경로로 테스트 데이터를 만듦
+@TestComponent
+public class TestFixtures {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    public Member signup() {
+        return signup(LocalDate.of(1995, 1, 1), null, null);
+    }
+
+    public Member signup(LocalDate birthDate, Double latitude, Double longitude) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        TokenResponse tokens = authService.signup(new SignupRequest(
+                "user-" + suffix + "@test.com", "password123", "tester", null,
+                "nick-" + suffix, birthDate, Profile.Gender.OTHER, null, null,
+                latitude, longitude, null, null, null));
+
+        Long userId = jwtTokenProvider.getUserIdFromToken(tokens.getAccessToken());
+        Long profileId = profileRepository.findIdByUserId(userId).orElseThrow();
+        return new Member(userId, profileId, tokens.getAccessToken());
+    }
+
+    // 서로 좋아요를 눌러 매칭시키고 채팅방을 만듦
+    public Long chatRoomBetween(Member first, Member second) {
+        matchService.like(first.profileId(), second.profileId());
+        MatchResponse match = matchService.like(second.profileId(), first.profileId());
+        ChatRoomResponse room = chatService.createChatRoom(second.profileId(), match.getId());
+        return room.getId();
+    }
+
+    public record Member(Long userId, Long profileId, String accessToken) {
+
+        public String bearer() {
+            return "Bearer " + accessToken;
+        }
+    }
+}